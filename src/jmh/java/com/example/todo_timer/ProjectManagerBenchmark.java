@@ -0,0 +1,122 @@
+package com.example.todo_timer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ProjectManager의 작업 추가, 이름 변경, 삭제와 프로젝트 이름 변경 시간을 재는 벤치마크
+ * 각 벤치마크는 실행 전후의 프로젝트 상태가 같도록 작업을 되돌려 두므로 작업 수는 taskCount로 유지됨
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProjectManagerBenchmark {
+    @Param({"1000", "10000", "100000"})
+    private int taskCount; // 프로젝트에 미리 넣어 둘 작업 수
+
+    private final TaskRepository repository = TaskRepository.getInstance();
+    private ProjectManager project; // 측정할 프로젝트
+    private String[] names; // 작업 이름
+    private String[] renamedNames; // 이름 변경에 사용할 작업 이름
+    private String projectName; // 프로젝트 이름
+    private String renamedProjectName; // 이름 변경에 사용할 프로젝트 이름
+    private int next; // 다음에 사용할 작업 위치
+
+
+    /**
+     * 작업 수만큼 작업을 넣은 프로젝트를 만드는 메서드
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        projectName = "bench-" + taskCount;
+        renamedProjectName = projectName + "-renamed";
+        project = repository.addProject(projectName);
+        names = new String[taskCount];
+        renamedNames = new String[taskCount];
+        for (int i = 0; i < taskCount; i++) {
+            names[i] = "task-" + i;
+            renamedNames[i] = names[i] + "-renamed";
+            project.addTask(names[i]);
+        }
+    }
+
+    /**
+     * 만든 프로젝트를 저장소에서 제거하는 메서드
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        repository.deleteProject(project);
+    }
+
+    /**
+     * 작업 하나를 추가하고 바로 삭제하는 시간을 재는 메서드
+     *
+     * @return 추가한 작업
+     */
+    @Benchmark
+    public Task addAndDeleteTask() {
+        Task task = project.addTask("extra");
+        project.deleteTask(task);
+        return task;
+    }
+
+    /**
+     * 이름으로 작업을 삭제하고 같은 이름으로 다시 추가하는 시간을 재는 메서드
+     * 삭제할 작업은 목록을 차례로 돌아가며 고름
+     *
+     * @return 다시 추가한 작업
+     */
+    @Benchmark
+    public Task deleteAndAddTask() {
+        String name = names[nextIndex()];
+        project.deleteTask(name);
+        return project.addTask(name);
+    }
+
+    /**
+     * 작업 이름을 바꿨다가 되돌리는 시간을 재는 메서드
+     *
+     * @return 작업 이름이 바뀌었는지 여부
+     */
+    @Benchmark
+    public boolean updateTask() {
+        int index = nextIndex();
+        project.updateTask(names[index], renamedNames[index]);
+        project.updateTask(renamedNames[index], names[index]);
+        return project.containsTask(names[index]);
+    }
+
+    /**
+     * 프로젝트 이름을 바꿨다가 되돌리는 시간을 재는 메서드
+     * 마감일과 메모는 작업 객체를 키로 저장되므로 프로젝트 이름만 바뀜
+     *
+     * @return 되돌린 프로젝트 이름
+     */
+    @Benchmark
+    public String setName() {
+        project.setName(renamedProjectName);
+        project.setName(projectName);
+        return project.getName();
+    }
+
+    /**
+     * 다음에 사용할 작업 위치를 반환하는 메서드
+     *
+     * @return 작업 위치
+     */
+    private int nextIndex() {
+        int index = next;
+        next = next + 1 == taskCount ? 0 : next + 1;
+        return index;
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.todo_timer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 작업 목록 화면이 작업을 표시할 때 하는 포맷 작업의 시간을 재는 벤치마크
+ * TodoTaskController는 프로젝트의 목록을 ListView에 그대로 연결하고 TaskListCell이 보이는 셀만 포맷하므로,
+ * 한 화면 분량의 셀을 포맷하는 시간이 작업 수와 관계없이 일정한지 확인
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskListFormatBenchmark {
+    private static final int VISIBLE_ROWS = 25; // 작업 목록 화면에 한 번에 보이는 셀 수
+
+    @Param({"1000", "10000", "100000"})
+    private int taskCount; // 프로젝트에 미리 넣어 둘 작업 수
+
+    private final TaskRepository repository = TaskRepository.getInstance();
+    private final TaskMetadataStore metadataStore = TaskMetadataStore.getInstance();
+    private ProjectManager project; // 측정할 프로젝트
+    private int firstRow; // 보이는 구간의 첫 번째 위치
+
+
+    /**
+     * 작업 수만큼 작업을 넣고 절반에 마감일을 넣는 메서드
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        project = repository.addProject("format-" + taskCount);
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < taskCount; i++) {
+            Task task = project.addTask("task-" + i);
+            if (i % 2 == 0) {
+                metadataStore.setDueDate(task, today.plusDays(i % 30));
+            }
+        }
+    }
+
+    /**
+     * 프로젝트를 저장소에서 제거하는 메서드
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        repository.deleteProject(project); // 작업의 마감일도 함께 제거됨
+    }
+
+    /**
+     * 한 화면 분량의 셀을 포맷하는 시간을 재는 메서드
+     * 보이는 구간은 호출할 때마다 한 화면씩 아래로 옮김
+     *
+     * @param blackhole 결과를 소비할 Blackhole
+     */
+    @Benchmark
+    public void formatVisibleRows(Blackhole blackhole) {
+        List<Task> tasks = project.getTasks();
+        int end = Math.min(firstRow + VISIBLE_ROWS, tasks.size());
+        for (int row = firstRow; row < end; row++) {
+            Task task = tasks.get(row);
+            blackhole.consume(TaskListCell.format(task, metadataStore.getDueDate(task)));
+        }
+        firstRow = end == tasks.size() ? 0 : end;
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.todo_timer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 작업을 키로 마감일과 메모를 찾는 시간을 재는 벤치마크
+ * 메모는 임시 폴더에 연 메모 파일에 저장하므로, 작업 수가 메모 캐시보다 많으면 돌아가며 읽을 때 대부분 파일에서 읽음
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TaskMetadataBenchmark {
+    @Param({"1000", "10000", "100000"})
+    private int taskCount; // 마감일과 메모를 넣어 둘 작업 수
+
+    private final TaskRepository repository = TaskRepository.getInstance();
+    private final TaskMetadataStore metadataStore = TaskMetadataStore.getInstance();
+    private Path directory; // 메모 파일을 둘 임시 폴더
+    private ProjectManager project; // 측정할 프로젝트
+    private Task[] tasks; // 측정할 작업
+    private int next; // 다음에 사용할 작업 위치
+
+
+    /**
+     * 모든 작업에 마감일과 메모를 넣는 메서드
+     *
+     * @throws IOException 메모 파일을 여는 데 실패한 경우
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("todo-timer-jmh");
+        metadataStore.getMemoStore().open(directory, 0);
+
+        project = repository.addProject("metadata-" + taskCount);
+        tasks = new Task[taskCount];
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < taskCount; i++) {
+            tasks[i] = project.addTask("task-" + i);
+            metadataStore.setDueDate(tasks[i], today.plusDays(i % 365));
+            metadataStore.setMemo(tasks[i], "작업 " + i + "의 메모입니다. 회의 자료를 정리하고 검토 의견을 반영합니다.");
+        }
+    }
+
+    /**
+     * 프로젝트를 제거하고 임시 폴더를 삭제하는 메서드
+     *
+     * @throws IOException 임시 폴더를 삭제하는 데 실패한 경우
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        repository.deleteProject(project); // 작업의 마감일과 메모도 함께 제거됨
+        metadataStore.getMemoStore().close();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            List<Path> files = paths.sorted(Comparator.reverseOrder()).toList();
+            for (Path path : files) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * 작업을 돌아가며 마감일을 찾는 시간을 재는 메서드
+     *
+     * @return 마감일
+     */
+    @Benchmark
+    public LocalDate getDueDate() {
+        return metadataStore.getDueDate(tasks[nextIndex()]);
+    }
+
+    /**
+     * 같은 작업의 메모를 반복해서 읽는 시간을 재는 메서드 (메모 캐시에서 읽음)
+     *
+     * @return 메모
+     */
+    @Benchmark
+    public String getMemoCached() {
+        return metadataStore.getMemo(tasks[0]);
+    }
+
+    /**
+     * 작업을 돌아가며 메모를 읽는 시간을 재는 메서드
+     *
+     * @return 메모
+     */
+    @Benchmark
+    public String getMemoRotating() {
+        return metadataStore.getMemo(tasks[nextIndex()]);
+    }
+
+    /**
+     * 다음에 사용할 작업 위치를 반환하는 메서드
+     *
+     * @return 작업 위치
+     */
+    private int nextIndex() {
+        int index = next;
+        next = next + 1 == taskCount ? 0 : next + 1;
+        return index;
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.todo_timer;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 진행 중인 작업을 마감일 순서로 정렬해 두는 인덱스 클래스
+ * "오늘 마감", "기한 지남", "N일 이내 마감", "다음 마감일" 같은 질의를
+ * 전체 작업을 훑지 않고 로그 시간에 찾아서 결과 수만큼만 처리
+ * 완료한 작업은 인덱스에 포함하지 않음
+ */
+public class DeadlineIndex {
+    private final NavigableMap<LocalDate, Set<Task>> tasksByDate = new TreeMap<>(); // 마감일 → 해당 날짜가 마감인 작업
+    private int size; // 인덱스에 들어 있는 작업 수
+
+
+    /**
+     * 작업을 마감일 위치에 추가하는 메서드
+     *
+     * @param task    작업
+     * @param dueDate 마감일
+     */
+    void add(Task task, LocalDate dueDate) {
+        if (tasksByDate.computeIfAbsent(dueDate, date -> new LinkedHashSet<>()).add(task)) {
+            size++;
+        }
+    }
+
+    /**
+     * 작업을 마감일 위치에서 제거하는 메서드
+     *
+     * @param task    작업
+     * @param dueDate 작업이 등록되어 있는 마감일
+     */
+    void remove(Task task, LocalDate dueDate) {
+        Set<Task> tasks = tasksByDate.get(dueDate);
+        if (tasks != null && tasks.remove(task)) {
+            size--;
+            if (tasks.isEmpty()) {
+                tasksByDate.remove(dueDate);
+            }
+        }
+    }
+
+    /**
+     * 지정된 날짜가 마감인 작업을 반환하는 메서드
+     *
+     * @param date 날짜
+     * @return 해당 날짜가 마감인 작업 (읽기 전용)
+     */
+    public Collection<Task> getTasksDueOn(LocalDate date) {
+        Set<Task> tasks = tasksByDate.get(date);
+        return tasks != null ? Collections.unmodifiableSet(tasks) : Collections.emptySet();
+    }
+
+    /**
+     * 마감일이 지난 작업을 마감일 순서로 반환하는 메서드
+     *
+     * @param today 오늘 날짜
+     * @return 마감일이 오늘 이전인 작업 목록
+     */
+    public List<Task> getOverdueTasks(LocalDate today) {
+        return collect(tasksByDate.headMap(today, false));
+    }
+
+    /**
+     * 오늘부터 지정된 일수 이내에 마감인 작업을 마감일 순서로 반환하는 메서드
+     *
+     * @param today 오늘 날짜
+     * @param days  오늘 이후로 포함할 일수 (0이면 오늘만)
+     * @return 마감일이 오늘부터 today + days 사이인 작업 목록
+     */
+    public List<Task> getTasksDueWithin(LocalDate today, int days) {
+        return collect(tasksByDate.subMap(today, true, today.plusDays(days), true));
+    }
+
+    /**
+     * 지정된 날짜 이후에 마감인 작업을 마감일 순서로 반환하는 메서드
+     *
+     * @param from 기준 날짜 (포함)
+     * @return 마감일이 from 이후인 작업 목록
+     */
+    public List<Task> getTasksDueFrom(LocalDate from) {
+        return collect(tasksByDate.tailMap(from, true));
+    }
+
+    /**
+     * 지정된 날짜 이후 가장 가까운 마감일을 반환하는 메서드
+     *
+     * @param from 기준 날짜 (포함)
+     * @return 가장 가까운 마감일, 없으면 null 반환
+     */
+    public LocalDate getNextDeadline(LocalDate from) {
+        return tasksByDate.ceilingKey(from);
+    }
+
+    /**
+     * 인덱스에 들어 있는 작업 수를 반환하는 메서드
+     *
+     * @return 마감일이 설정된 진행 중인 작업 수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 마감일 구간에 들어 있는 작업을 하나의 목록으로 모으는 메서드
+     *
+     * @param range 마감일 구간
+     * @return 마감일 순서로 정렬된 작업 목록
+     */
+    private List<Task> collect(Map<LocalDate, Set<Task>> range) {
+        List<Task> result = new ArrayList<>();
+        for (Set<Task> tasks : range.values()) {
+            result.addAll(tasks);
+        }
+        return result;
+    }
+}
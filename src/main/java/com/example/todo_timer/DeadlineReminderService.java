@@ -0,0 +1,322 @@
+package com.example.todo_timer;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * 마감 기한 알림을 정해진 시각에 보내는 클래스
+ * 작업마다 "하루 전"과 "당일" 알림 시각(해당 날짜의 자정)을 우선순위 큐에 넣어 두고,
+ * 백그라운드 스레드가 가장 가까운 알림 시각까지 잠들었다가 깨어나 알림을 보냄
+ * 큐가 비어 있으면 새 알림이 들어올 때까지 기다리므로 주기적으로 확인하지 않음
+ * 알림은 작업, 마감일, 알림 종류마다 한 번만 보내고, 자정이 지나면 다음 날의 알림이 이어서 나감
+ */
+public class DeadlineReminderService implements WorkspaceListener {
+    private static final DeadlineReminderService instance = new DeadlineReminderService(Clock.systemDefaultZone(),
+            (title, message) -> NotificationCenter.getInstance().notify(title, message)); // 애플리케이션 전체에서 공유하는 알림 서비스
+
+    private final Clock clock; // 현재 시각과 시간대
+    private final BiConsumer<String, String> notifier; // 알림 제목과 내용을 전달받는 대상
+    private final PriorityQueue<Reminder> queue = new PriorityQueue<>(Comparator.comparingLong(reminder -> reminder.fireAtMillis)); // 알림 시각 순서의 예약된 알림
+    private final Map<Task, LocalDate> armed = new HashMap<>(); // 알림이 예약된 작업 → 예약할 때의 마감일
+    private final Set<Reminder> fired = new HashSet<>(); // 이미 보낸 알림 (알림 기간이 끝나면 지움)
+    private Thread reminderThread; // 알림 시각까지 기다리는 백그라운드 스레드
+
+
+    /**
+     * DeadlineReminderService의 생성자
+     *
+     * @param clock    현재 시각과 시간대
+     * @param notifier 알림 제목과 내용을 전달받는 대상
+     */
+    DeadlineReminderService(Clock clock, BiConsumer<String, String> notifier) {
+        this.clock = clock;
+        this.notifier = notifier;
+    }
+
+    /**
+     * DeadlineReminderService 인스턴스를 반환하는 메서드
+     *
+     * @return DeadlineReminderService 인스턴스
+     */
+    public static DeadlineReminderService getInstance() {
+        return instance;
+    }
+
+    /**
+     * 오늘 이후에 마감인 작업의 알림을 예약하고 백그라운드 스레드를 시작하는 메서드
+     * 작업 공간을 불러온 다음 JavaFX 애플리케이션 스레드에서 호출
+     */
+    public void start() {
+        synchronized (this) {
+            if (reminderThread != null) {
+                return;
+            }
+            reminderThread = new Thread(this::runReminders, "deadline-reminder");
+            reminderThread.setDaemon(true);
+        }
+        TaskMetadataStore metadataStore = TaskMetadataStore.getInstance();
+        for (Task task : metadataStore.getDeadlineIndex().getTasksDueFrom(LocalDate.now(clock))) {
+            arm(task, metadataStore.getDueDate(task));
+        }
+        TaskRepository.getInstance().addWorkspaceListener(this);
+        reminderThread.start();
+    }
+
+    /**
+     * 백그라운드 스레드를 멈추고 예약된 알림을 모두 지우는 메서드
+     * 애플리케이션이 종료될 때 호출
+     */
+    public void stop() {
+        TaskRepository.getInstance().removeWorkspaceListener(this);
+        synchronized (this) {
+            if (reminderThread == null) {
+                return;
+            }
+            reminderThread.interrupt();
+            reminderThread = null;
+            queue.clear();
+            armed.clear();
+            fired.clear();
+        }
+    }
+
+    @Override
+    public void projectDeleted(ProjectManager project) {
+        synchronized (this) {
+            armed.keySet().removeIf(task -> task.getProject() == project);
+            queue.removeIf(reminder -> reminder.task.getProject() == project);
+            fired.removeIf(reminder -> reminder.task.getProject() == project);
+        }
+    }
+
+    @Override
+    public void taskCompleted(Task task) {
+        disarm(task);
+    }
+
+    @Override
+    public void taskRestored(Task task) {
+        arm(task, TaskMetadataStore.getInstance().getDueDate(task));
+    }
+
+    @Override
+    public void taskDeleted(Task task) {
+        disarm(task);
+        synchronized (this) {
+            fired.removeIf(reminder -> reminder.task == task);
+        }
+    }
+
+    @Override
+    public synchronized void taskRenamed(Task task, String oldName) {
+        // 알림에는 예약할 때의 작업 이름이 들어 있으므로 새 이름으로 다시 예약
+        LocalDate dueDate = armed.get(task);
+        if (dueDate != null) {
+            disarm(task);
+            arm(task, dueDate);
+        }
+    }
+
+    @Override
+    public void dueDateChanged(Task task, LocalDate dueDate) {
+        disarm(task);
+        if (!task.isCompleted()) {
+            arm(task, dueDate);
+        }
+    }
+
+    /**
+     * 작업의 마감일에 맞춰 알림을 예약하는 메서드
+     * 알림 기간이 이미 지났거나 이미 보낸 알림은 예약하지 않고,
+     * 알림 시각이 이미 지났지만 기간 안이면 바로 보냄
+     * 작업 이름은 JavaFX 애플리케이션 스레드에서 바뀌므로 알림 스레드가 직접 읽지 않도록 예약할 때 알림에 복사
+     *
+     * @param task    작업
+     * @param dueDate 마감일, null이면 예약하지 않음
+     */
+    private synchronized void arm(Task task, LocalDate dueDate) {
+        if (dueDate == null) {
+            return;
+        }
+        armed.put(task, dueDate);
+        long nowMillis = clock.millis();
+        for (Threshold threshold : Threshold.values()) {
+            Reminder reminder = new Reminder(task, task.getName(), dueDate, threshold, clock);
+            if (reminder.endMillis > nowMillis && !fired.contains(reminder)) {
+                queue.add(reminder);
+            }
+        }
+        notifyAll(); // 새 알림이 가장 빠를 수 있으므로 기다리는 시간을 다시 계산하게 함
+    }
+
+    /**
+     * 작업에 예약된 알림을 모두 취소하는 메서드
+     *
+     * @param task 작업
+     */
+    private synchronized void disarm(Task task) {
+        if (armed.remove(task) != null) {
+            queue.removeIf(reminder -> reminder.task == task);
+        }
+    }
+
+    /**
+     * 알림 시각이 될 때마다 알림을 보내는 백그라운드 스레드의 본문
+     */
+    private void runReminders() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                deliver(takeDueReminders());
+            }
+        } catch (InterruptedException e) {
+            // stop에서 중단한 경우
+        }
+    }
+
+    /**
+     * 알림 시각이 된 알림이 생길 때까지 기다렸다가 모두 꺼내는 메서드
+     * 가장 가까운 알림 시각까지만 기다리고, 그 사이에 알림이 예약되면 깨어나 다시 계산
+     *
+     * @return 보낼 알림 목록 (비어 있지 않음)
+     * @throws InterruptedException 기다리는 중에 스레드가 중단된 경우
+     */
+    private synchronized List<Reminder> takeDueReminders() throws InterruptedException {
+        while (true) {
+            long nowMillis = clock.millis();
+            Reminder head = queue.peek();
+            if (head == null) {
+                wait();
+                continue;
+            }
+            if (head.fireAtMillis > nowMillis) {
+                wait(head.fireAtMillis - nowMillis);
+                continue;
+            }
+
+            List<Reminder> due = new ArrayList<>();
+            while (head != null && head.fireAtMillis <= nowMillis) {
+                queue.poll();
+                // 잠든 사이에 기간이 지났거나 마감일이 바뀐 알림은 보내지 않음
+                if (nowMillis < head.endMillis && head.dueDate.equals(armed.get(head.task)) && fired.add(head)) {
+                    due.add(head);
+                }
+                head = queue.peek();
+            }
+            fired.removeIf(reminder -> reminder.endMillis <= nowMillis);
+            if (!due.isEmpty()) {
+                return due;
+            }
+        }
+    }
+
+    /**
+     * 알림을 종류별로 묶어 보내는 메서드
+     * 작업이 여러 개이면 작업마다 알림을 보내지 않고 작업 수만 알림
+     *
+     * @param due 보낼 알림 목록
+     */
+    private void deliver(List<Reminder> due) {
+        for (Threshold threshold : Threshold.values()) {
+            List<Reminder> reminders = new ArrayList<>();
+            for (Reminder reminder : due) {
+                if (reminder.threshold == threshold) {
+                    reminders.add(reminder);
+                }
+            }
+            if (reminders.size() == 1) {
+                notifier.accept(threshold.title, String.format(threshold.singleMessage, reminders.get(0).taskName));
+            } else if (reminders.size() > 1) {
+                notifier.accept(threshold.title, String.format(threshold.countMessage, reminders.size()));
+            }
+        }
+    }
+
+    /**
+     * 알림 종류를 나타내는 열거형
+     */
+    private enum Threshold {
+        DAY_BEFORE(1, "마감 임박", "작업 '%s'의 마감 기한이 하루 남았습니다.", "작업 %d개의 마감 기한이 하루 남았습니다."),
+        DUE_DAY(0, "마감일", "작업 '%s'의 마감 기한이 오늘입니다!", "작업 %d개의 마감 기한이 오늘입니다!");
+
+        private final int daysBefore; // 마감일 며칠 전에 보내는지
+        private final String title; // 알림 제목
+        private final String singleMessage; // 작업이 하나일 때의 알림 내용
+        private final String countMessage; // 작업이 여러 개일 때의 알림 내용
+
+
+        /**
+         * Threshold의 생성자
+         *
+         * @param daysBefore    마감일 며칠 전에 보내는지
+         * @param title         알림 제목
+         * @param singleMessage 작업이 하나일 때의 알림 내용
+         * @param countMessage  작업이 여러 개일 때의 알림 내용
+         */
+        Threshold(int daysBefore, String title, String singleMessage, String countMessage) {
+            this.daysBefore = daysBefore;
+            this.title = title;
+            this.singleMessage = singleMessage;
+            this.countMessage = countMessage;
+        }
+    }
+
+    /**
+     * 작업 하나의 알림 하나를 나타내는 클래스
+     * 작업, 마감일, 알림 종류가 같으면 같은 알림으로 봄 (작업 이름은 비교하지 않음)
+     */
+    private static final class Reminder {
+        private final Task task; // 작업
+        private final String taskName; // 예약할 때의 작업 이름 (알림 스레드는 작업에서 이름을 읽지 않음)
+        private final LocalDate dueDate; // 예약할 때의 마감일
+        private final Threshold threshold; // 알림 종류
+        private final long fireAtMillis; // 알림을 보낼 시각 (epoch 밀리초)
+        private final long endMillis; // 알림 기간이 끝나는 시각, 이 시각이 지나면 보내지 않음 (epoch 밀리초)
+
+
+        /**
+         * Reminder의 생성자
+         *
+         * @param task      작업
+         * @param taskName  예약할 때의 작업 이름
+         * @param dueDate   마감일
+         * @param threshold 알림 종류
+         * @param clock     시간대를 알려 줄 시계
+         */
+        private Reminder(Task task, String taskName, LocalDate dueDate, Threshold threshold, Clock clock) {
+            this.task = task;
+            this.taskName = taskName;
+            this.dueDate = dueDate;
+            this.threshold = threshold;
+            LocalDate day = dueDate.minusDays(threshold.daysBefore);
+            this.fireAtMillis = day.atStartOfDay(clock.getZone()).toInstant().toEpochMilli();
+            this.endMillis = day.plusDays(1).atStartOfDay(clock.getZone()).toInstant().toEpochMilli();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Reminder)) {
+                return false;
+            }
+            Reminder other = (Reminder) o;
+            return task == other.task && dueDate.equals(other.dueDate) && threshold == other.threshold;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(task), dueDate, threshold);
+        }
+    }
+}
@@ -0,0 +1,480 @@
+package com.example.todo_timer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 작업 메모를 힙 밖의 파일에 압축해서 저장하는 클래스
+ * 메모 본문은 메모 파일에 이어 붙이고 메모리에는 파일 위치(참조)만 남겨 두며,
+ * 관리 화면에서 메모를 열 때 파일에서 읽어 압축을 풂
+ * 최근에 읽거나 수정한 메모 몇 개만 LRU 캐시에 문자열로 보관
+ *
+ * 메모 파일 레코드: [원래 길이(int)][저장 길이(int)][본문]
+ * 저장 길이가 원래 길이보다 짧으면 Deflate로 압축한 본문이고, 같으면 압축하지 않은 UTF-8 본문
+ * 참조 값은 상위 40비트에 레코드 위치, 하위 24비트에 레코드 길이를 담은 long
+ */
+public class MemoStore {
+    static final long NO_MEMO = -1; // 메모가 없음을 나타내는 참조 값
+
+    private static final int CACHE_SIZE = 32; // 문자열로 보관할 최근 메모 수
+    private static final int HEADER_SIZE = 8; // 레코드 머리 크기
+    private static final int LENGTH_BITS = 24; // 참조 값에서 레코드 길이가 차지하는 비트 수
+    private static final long COMPACT_MIN_SIZE = 1 << 20; // 이 크기보다 작은 메모 파일은 정리하지 않음
+
+    private static final String FILE_PREFIX = "workspace-"; // 메모 파일 이름 앞부분
+    private static final String FILE_SUFFIX = ".memos"; // 메모 파일 이름 뒷부분
+
+    // 작업별 메모 참조
+    private final Map<Task, Long> refs = new HashMap<>();
+
+    // 최근에 읽거나 수정한 메모 (접근 순서로 정렬되며 CACHE_SIZE를 넘으면 가장 오래된 것부터 제거)
+    private final Map<Task, String> cache = new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Task, String> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    private final Inflater inflater = new Inflater();
+
+    private Path directory; // 메모 파일이 있는 폴더, 임시 파일을 쓰는 중이면 null
+    private long generation; // 메모 파일 세대 번호, 정리할 때마다 1씩 증가
+    private volatile FileChannel channel; // 메모 파일 (저널 기록 스레드에서도 force를 호출함)
+    private long fileSize; // 메모 파일 끝 위치
+    private long liveBytes; // 현재 참조되는 레코드의 전체 크기
+
+
+    /**
+     * MemoStore의 생성자
+     */
+    MemoStore() {
+    }
+
+    /**
+     * 작업 공간 폴더의 메모 파일을 여는 메서드
+     * 스냅샷을 불러오기 전에 스냅샷에 기록된 세대 번호로 호출
+     *
+     * @param directory  작업 공간 폴더
+     * @param generation 메모 파일 세대 번호
+     * @throws IOException 파일을 여는 데 실패한 경우
+     */
+    void open(Path directory, long generation) throws IOException {
+        closeChannel();
+        this.directory = directory;
+        this.generation = generation;
+        channel = FileChannel.open(fileOf(directory, generation),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        // 비정상 종료로 잘린 꼬리가 있어도 참조되지 않으므로 파일 끝부터 이어서 기록
+        fileSize = channel.size();
+    }
+
+    /**
+     * 메모 파일 세대 번호를 반환하는 메서드
+     *
+     * @return 세대 번호
+     */
+    long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * 작업의 메모를 반환하는 메서드
+     * 캐시에 없으면 메모 파일에서 읽어 압축을 풀고 캐시에 넣음
+     *
+     * @param task 작업
+     * @return 작업 메모, 없으면 빈 문자열
+     */
+    String get(Task task) {
+        String memo = cache.get(task);
+        if (memo != null) {
+            return memo;
+        }
+        Long ref = refs.get(task);
+        if (ref == null) {
+            return "";
+        }
+        memo = read(ref);
+        cache.put(task, memo);
+        return memo;
+    }
+
+    /**
+     * 작업의 메모를 저장하는 메서드
+     * 압축한 본문을 메모 파일 끝에 기록하고 캐시에도 넣음
+     *
+     * @param task 작업
+     * @param memo 작업 메모, 비어 있으면 메모를 제거
+     */
+    void put(Task task, String memo) {
+        if (memo == null || memo.isEmpty()) {
+            remove(task);
+            return;
+        }
+        setRef(task, append(memo));
+        cache.put(task, memo);
+    }
+
+    /**
+     * 작업의 메모를 제거하는 메서드
+     *
+     * @param task 작업
+     */
+    void remove(Task task) {
+        cache.remove(task);
+        Long ref = refs.remove(task);
+        if (ref != null) {
+            liveBytes -= lengthOf(ref);
+        }
+    }
+
+    /**
+     * 작업의 메모 참조를 반환하는 메서드
+     *
+     * @param task 작업
+     * @return 메모 참조, 없으면 NO_MEMO
+     */
+    long getRef(Task task) {
+        Long ref = refs.get(task);
+        return ref != null ? ref : NO_MEMO;
+    }
+
+    /**
+     * 스냅샷에서 불러온 메모 참조를 연결하는 메서드
+     *
+     * @param task 작업
+     * @param ref  메모 참조
+     */
+    void setRef(Task task, long ref) {
+        Long oldRef = refs.put(task, ref);
+        if (oldRef != null) {
+            liveBytes -= lengthOf(oldRef);
+        }
+        cache.remove(task);
+        liveBytes += lengthOf(ref);
+    }
+
+    /**
+     * 지금까지 기록한 메모를 디스크에 강제로 기록하는 메서드
+     * 메모 참조를 담은 스냅샷을 쓰기 전에 저널 기록 스레드에서 호출
+     *
+     * @throws IOException 기록에 실패한 경우
+     */
+    void force() throws IOException {
+        FileChannel current = channel;
+        if (current != null) {
+            current.force(false);
+        }
+    }
+
+    /**
+     * 더 이상 참조되지 않는 레코드가 메모 파일의 절반을 넘으면 다음 세대 파일로 옮겨 정리하는 메서드
+     * 압축된 본문을 그대로 복사하므로 다시 압축하지 않음
+     * 이전 세대 파일은 새 참조를 담은 스냅샷이 저장된 뒤에 deleteOtherGenerations에서 지움
+     *
+     * @return 정리했으면 true, 새 세대 번호로 스냅샷을 저장해야 함
+     * @throws IOException 파일을 쓰는 데 실패한 경우
+     */
+    boolean compactIfNeeded() throws IOException {
+        if (directory == null || fileSize < COMPACT_MIN_SIZE || liveBytes * 2 >= fileSize) {
+            return false;
+        }
+        long nextGeneration = generation + 1;
+        Path file = fileOf(directory, nextGeneration);
+        Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        // 새 참조는 따로 모아 두고 파일 이동과 다시 열기가 끝난 뒤에 바꾸므로, 도중에 실패해도 기존 참조가 그대로 남음
+        Map<Task, Long> movedRefs = new HashMap<>();
+        long position = 0;
+        try (FileChannel out = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            for (Map.Entry<Task, Long> entry : refs.entrySet()) {
+                long ref = entry.getValue();
+                int length = lengthOf(ref);
+                copyRecord(offsetOf(ref), length, out, position);
+                movedRefs.put(entry.getKey(), refOf(position, length));
+                position += length;
+            }
+            out.force(true);
+        }
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        open(directory, nextGeneration);
+        refs.putAll(movedRefs);
+        return true;
+    }
+
+    /**
+     * 메모 파일의 레코드 하나를 다른 파일로 빠짐없이 복사하는 메서드
+     * transferTo는 요청보다 적게 복사할 수 있으므로 레코드 길이만큼 복사될 때까지 반복
+     *
+     * @param offset   레코드 위치
+     * @param length   레코드 길이
+     * @param out      복사할 파일
+     * @param position 복사할 파일에서의 위치
+     * @throws IOException 복사에 실패했거나 메모 파일이 레코드보다 짧은 경우
+     */
+    private void copyRecord(long offset, int length, FileChannel out, long position) throws IOException {
+        long copied = 0;
+        while (copied < length) {
+            if (offset + copied >= channel.size()) {
+                throw new IOException("메모 파일이 손상되었습니다.");
+            }
+            out.position(position + copied);
+            copied += channel.transferTo(offset + copied, length - copied, out);
+        }
+    }
+
+    /**
+     * 지정된 세대가 아닌 메모 파일을 지우는 메서드
+     * 스냅샷이 저장된 뒤 저널 기록 스레드에서 호출
+     *
+     * @param directory  작업 공간 폴더
+     * @param generation 남겨 둘 세대 번호
+     */
+    static void deleteOtherGenerations(Path directory, long generation) {
+        Path keep = fileOf(directory, generation);
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, FILE_PREFIX + "*" + FILE_SUFFIX)) {
+            for (Path path : stream) {
+                if (!path.equals(keep)) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        } catch (IOException e) {
+            // 지우지 못한 파일은 다음 스냅샷 때 다시 시도
+        }
+    }
+
+    /**
+     * 메모 파일을 닫는 메서드
+     */
+    void close() {
+        closeChannel();
+        directory = null;
+    }
+
+    /**
+     * 메모를 압축하여 메모 파일 끝에 기록하는 메서드
+     *
+     * @param memo 작업 메모
+     * @return 기록한 레코드의 참조
+     */
+    private long append(String memo) {
+        byte[] raw = memo.getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = new byte[raw.length];
+        deflater.reset();
+        deflater.setInput(raw);
+        deflater.finish();
+        int storedLength = deflater.deflate(compressed);
+        // 압축해도 줄지 않으면 원래 본문을 그대로 저장
+        boolean useCompressed = deflater.finished() && storedLength < raw.length;
+        if (!useCompressed) {
+            storedLength = raw.length;
+        }
+        if (HEADER_SIZE + storedLength >= 1 << LENGTH_BITS) {
+            throw new IllegalArgumentException("메모가 너무 깁니다.");
+        }
+
+        ByteBuffer record = ByteBuffer.allocate(HEADER_SIZE + storedLength);
+        record.putInt(raw.length).putInt(storedLength).put(useCompressed ? compressed : raw, 0, storedLength);
+        record.flip();
+        try {
+            ensureOpen();
+            long position = fileSize;
+            while (record.hasRemaining()) {
+                channel.write(record, position + record.position());
+            }
+            fileSize += record.limit();
+            return refOf(position, record.limit());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 메모 파일에서 레코드를 읽어 압축을 푸는 메서드
+     *
+     * @param ref 메모 참조
+     * @return 작업 메모
+     */
+    private String read(long ref) {
+        ByteBuffer record = ByteBuffer.allocate(lengthOf(ref));
+        try {
+            readRecord(channel, record, offsetOf(ref));
+            return decode(record, inflater);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (DataFormatException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * 메모 참조가 가리키는 메모를 메모 파일의 위치 순서로 읽어 전달하는 메서드
+     * 검색 색인을 만들 때 백그라운드 스레드에서 모든 메모를 한 번씩 읽기 위해 사용
+     * 캐시를 거치지 않으므로 최근 메모 캐시를 밀어내지 않고, 압축 해제기와 버퍼를 따로 쓰며 위치를 지정해 읽으므로
+     * JavaFX 애플리케이션 스레드에서 메모를 읽고 쓰는 동안에도 호출할 수 있음
+     * 메모 파일은 작업 공간을 열 때만 정리되므로 참조는 JavaFX 애플리케이션 스레드에서 getRef로 미리 모아서 전달
+     *
+     * @param tasks    작업
+     * @param refs     작업별 메모 참조 (tasks와 같은 순서), 메모가 없으면 NO_MEMO
+     * @param consumer 읽은 작업과 메모를 받을 콜백
+     * @throws IOException 메모 파일을 읽는 데 실패한 경우
+     */
+    void scan(Task[] tasks, long[] refs, BiConsumer<Task, String> consumer) throws IOException {
+        FileChannel current = channel;
+        if (current == null) {
+            return;
+        }
+        // 메모가 있는 작업만 파일 위치 순서로 정렬하여 앞에서부터 차례로 읽음
+        Integer[] order = new Integer[refs.length];
+        int count = 0;
+        for (int i = 0; i < refs.length; i++) {
+            if (refs[i] != NO_MEMO) {
+                order[count++] = i;
+            }
+        }
+        order = Arrays.copyOf(order, count);
+        Arrays.sort(order, Comparator.comparingLong(i -> offsetOf(refs[i])));
+
+        ByteBuffer record = ByteBuffer.allocate(1 << 12);
+        Inflater scanInflater = new Inflater();
+        try {
+            for (int i : order) {
+                int length = lengthOf(refs[i]);
+                if (record.capacity() < length) {
+                    record = ByteBuffer.allocate(Math.max(length, record.capacity() * 2));
+                }
+                record.clear().limit(length);
+                readRecord(current, record, offsetOf(refs[i]));
+                consumer.accept(tasks[i], decode(record, scanInflater));
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("메모 파일이 손상되었습니다.", e);
+        } finally {
+            scanInflater.end();
+        }
+    }
+
+    /**
+     * 지정된 위치에서 버퍼가 찰 때까지 레코드를 읽는 메서드
+     *
+     * @param channel 메모 파일
+     * @param record  읽은 내용을 담을 버퍼 (limit까지 채움)
+     * @param offset  레코드 위치
+     * @throws IOException 읽는 데 실패했거나 파일이 레코드보다 짧은 경우
+     */
+    private static void readRecord(FileChannel channel, ByteBuffer record, long offset) throws IOException {
+        while (record.hasRemaining()) {
+            if (channel.read(record, offset + record.position()) < 0) {
+                throw new IOException("메모 파일이 손상되었습니다.");
+            }
+        }
+    }
+
+    /**
+     * 읽은 레코드의 본문을 문자열로 바꾸는 메서드
+     *
+     * @param record   레코드 전체를 담은 버퍼
+     * @param inflater 압축된 본문을 풀 압축 해제기
+     * @return 작업 메모
+     * @throws DataFormatException 압축된 본문이 손상된 경우
+     */
+    private static String decode(ByteBuffer record, Inflater inflater) throws DataFormatException {
+        int rawLength = record.getInt(0);
+        int storedLength = record.getInt(4);
+        if (storedLength == rawLength) {
+            return new String(record.array(), HEADER_SIZE, rawLength, StandardCharsets.UTF_8);
+        }
+        byte[] raw = new byte[rawLength];
+        inflater.reset();
+        inflater.setInput(record.array(), HEADER_SIZE, storedLength);
+        inflater.inflate(raw);
+        return new String(raw, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 작업 공간이 열리지 않은 상태에서 메모를 저장하면 임시 파일을 만드는 메서드
+     *
+     * @throws IOException 임시 파일을 만드는 데 실패한 경우
+     */
+    private void ensureOpen() throws IOException {
+        if (channel == null) {
+            Path tempFile = Files.createTempFile("todo-timer", FILE_SUFFIX);
+            channel = FileChannel.open(tempFile, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                    StandardOpenOption.DELETE_ON_CLOSE);
+            fileSize = 0;
+        }
+    }
+
+    /**
+     * 메모 파일 채널을 닫는 메서드
+     */
+    private void closeChannel() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+            channel = null;
+        }
+    }
+
+    /**
+     * 세대 번호에 해당하는 메모 파일 경로를 반환하는 메서드
+     *
+     * @param directory  작업 공간 폴더
+     * @param generation 세대 번호
+     * @return 메모 파일 경로
+     */
+    private static Path fileOf(Path directory, long generation) {
+        return directory.resolve(String.format("%s%08x%s", FILE_PREFIX, generation, FILE_SUFFIX));
+    }
+
+    /**
+     * 레코드 위치와 길이로 참조 값을 만드는 메서드
+     *
+     * @param offset 레코드 위치
+     * @param length 레코드 길이
+     * @return 메모 참조
+     */
+    private static long refOf(long offset, int length) {
+        return offset << LENGTH_BITS | length;
+    }
+
+    /**
+     * 참조 값에서 레코드 위치를 꺼내는 메서드
+     *
+     * @param ref 메모 참조
+     * @return 레코드 위치
+     */
+    private static long offsetOf(long ref) {
+        return ref >>> LENGTH_BITS;
+    }
+
+    /**
+     * 참조 값에서 레코드 길이를 꺼내는 메서드
+     *
+     * @param ref 메모 참조
+     * @return 레코드 길이
+     */
+    private static int lengthOf(long ref) {
+        return (int) (ref & ((1 << LENGTH_BITS) - 1));
+    }
+}
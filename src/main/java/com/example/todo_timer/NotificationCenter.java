@@ -0,0 +1,226 @@
+package com.example.todo_timer;
+
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.geometry.Insets;
+import javafx.scene.control.Dialog;
+import javafx.scene.control.Label;
+import javafx.scene.layout.VBox;
+import javafx.scene.text.Font;
+import javafx.stage.Modality;
+import javafx.stage.Popup;
+import javafx.stage.Window;
+import javafx.util.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * 알림을 창 아래쪽의 토스트로 표시하고, 확인 다이얼로그를 모달 없이 띄우는 클래스
+ * 알림은 어느 스레드에서든 보낼 수 있으며, 한 프레임 안에 쌓인 알림은 한 번에 모아서 처리
+ * 같은 제목의 알림이 연달아 오면 토스트 하나로 합쳐 "외 N건"으로 표시
+ * 토스트 노드와 팝업은 하나를 만들어 계속 재사용
+ * 다이얼로그는 결과를 기다리지 않고 닫힐 때 콜백으로 전달하므로 JavaFX 애플리케이션 스레드가 멈추지 않음
+ */
+public class NotificationCenter {
+    private static final NotificationCenter instance = new NotificationCenter(); // 애플리케이션 전체에서 공유하는 알림 센터
+
+    private static final Duration TOAST_DURATION = Duration.seconds(3); // 토스트를 표시하는 시간
+    private static final double TOAST_WIDTH = 300; // 토스트 너비
+    private static final double TOAST_BOTTOM_MARGIN = 110; // 창 아래쪽에서 토스트까지의 거리
+
+    private final Queue<Notice> incoming = new ConcurrentLinkedQueue<>(); // 아직 처리하지 않은 알림
+    private final AtomicBoolean drainScheduled = new AtomicBoolean(); // 알림 처리가 예약되었는지 여부
+    private final Queue<Notice> waiting = new ArrayDeque<>(); // 표시를 기다리는 알림 (JavaFX 스레드 전용)
+    private Notice showing; // 현재 표시 중인 알림 (JavaFX 스레드 전용)
+    private Window owner; // 토스트와 다이얼로그를 띄울 창
+
+    private Popup toast; // 재사용하는 토스트 팝업
+    private Label toastTitle; // 토스트 제목
+    private Label toastMessage; // 토스트 내용
+    private PauseTransition toastTimer; // 토스트를 내리는 타이머
+
+
+    /**
+     * NotificationCenter의 생성자
+     */
+    private NotificationCenter() {
+    }
+
+    /**
+     * NotificationCenter 인스턴스를 반환하는 메서드
+     *
+     * @return NotificationCenter 인스턴스
+     */
+    public static NotificationCenter getInstance() {
+        return instance;
+    }
+
+    /**
+     * 토스트와 다이얼로그를 띄울 창을 지정하는 메서드
+     * 애플리케이션이 시작될 때 주 창으로 한 번 호출
+     *
+     * @param owner 주 창
+     */
+    public void attach(Window owner) {
+        this.owner = owner;
+        drain();
+    }
+
+    /**
+     * 알림을 보내는 메서드
+     * 어느 스레드에서든 호출할 수 있으며, 바로 반환
+     *
+     * @param title   알림 제목
+     * @param message 알림 내용
+     */
+    public void notify(String title, String message) {
+        incoming.add(new Notice(title, message));
+        if (drainScheduled.compareAndSet(false, true)) {
+            Platform.runLater(this::drain);
+        }
+    }
+
+    /**
+     * 다이얼로그를 모달 없이 띄우고, 닫힐 때 결과를 전달하는 메서드
+     * 결과를 기다리지 않고 바로 반환
+     *
+     * @param dialog   띄울 다이얼로그
+     * @param onResult 닫힐 때 결과를 전달받을 콜백, 결과 없이 닫히면 호출되지 않음
+     * @param <R>      다이얼로그 결과 타입
+     */
+    public <R> void ask(Dialog<R> dialog, Consumer<R> onResult) {
+        dialog.initModality(Modality.NONE);
+        if (owner != null && dialog.getOwner() == null) {
+            dialog.initOwner(owner);
+        }
+        dialog.setOnHidden(event -> {
+            R result = dialog.getResult();
+            if (result != null) {
+                onResult.accept(result);
+            }
+        });
+        dialog.show();
+    }
+
+    /**
+     * 쌓인 알림을 표시 대기열로 옮기는 메서드
+     * 현재 표시 중이거나 대기 중인 알림과 제목이 같으면 새로 추가하지 않고 합침
+     */
+    private void drain() {
+        drainScheduled.set(false);
+        Notice notice;
+        while ((notice = incoming.poll()) != null) {
+            if (showing != null && showing.title.equals(notice.title)) {
+                showing.count++;
+                updateToast(); // 표시 중인 토스트의 내용만 바꾸고 표시 시간을 다시 셈
+                continue;
+            }
+            Notice same = find(notice.title);
+            if (same != null) {
+                same.count++;
+            } else {
+                waiting.add(notice);
+            }
+        }
+        if (showing == null) {
+            showNext();
+        }
+    }
+
+    /**
+     * 표시를 기다리는 알림 중 제목이 같은 알림을 찾는 메서드
+     *
+     * @param title 알림 제목
+     * @return 제목이 같은 알림, 없으면 null
+     */
+    private Notice find(String title) {
+        for (Notice notice : waiting) {
+            if (notice.title.equals(title)) {
+                return notice;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 다음 알림을 토스트로 표시하는 메서드
+     * 기다리는 알림이 없으면 토스트를 내림
+     */
+    private void showNext() {
+        if (owner == null || !owner.isShowing()) {
+            return; // 창이 준비되면 attach에서 다시 처리
+        }
+        showing = waiting.poll();
+        if (showing == null) {
+            if (toast != null) {
+                toast.hide();
+            }
+            return;
+        }
+        if (toast == null) {
+            createToast();
+        }
+        updateToast();
+        toast.show(owner,
+                owner.getX() + (owner.getWidth() - TOAST_WIDTH) / 2,
+                owner.getY() + owner.getHeight() - TOAST_BOTTOM_MARGIN);
+    }
+
+    /**
+     * 표시 중인 알림으로 토스트 내용을 바꾸고 표시 시간을 처음부터 다시 세는 메서드
+     */
+    private void updateToast() {
+        toastTitle.setText(showing.title);
+        toastMessage.setText(showing.count > 1
+                ? showing.message + " 외 " + (showing.count - 1) + "건"
+                : showing.message);
+        toastTimer.playFromStart();
+    }
+
+    /**
+     * 토스트 팝업과 노드를 만드는 메서드
+     */
+    private void createToast() {
+        toastTitle = new Label();
+        toastTitle.setFont(Font.font("Arial Black", 14));
+        toastTitle.setStyle("-fx-text-fill: #6b0404;");
+        toastMessage = new Label();
+        toastMessage.setWrapText(true);
+        toastMessage.setStyle("-fx-text-fill: #6b0404;");
+
+        VBox box = new VBox(4, toastTitle, toastMessage);
+        box.setPadding(new Insets(10, 14, 10, 14));
+        box.setPrefWidth(TOAST_WIDTH);
+        box.setStyle("-fx-background-color: #f8d8ca; -fx-background-radius: 10; -fx-border-color: #c98888; -fx-border-radius: 10;");
+        box.setOnMouseClicked(event -> showNext()); // 누르면 바로 다음 알림으로 넘어감
+
+        toast = new Popup();
+        toast.getContent().add(box);
+        toastTimer = new PauseTransition(TOAST_DURATION);
+        toastTimer.setOnFinished(event -> showNext());
+    }
+
+    /**
+     * 표시할 알림 하나와 합쳐진 알림 수를 담는 클래스
+     */
+    private static final class Notice {
+        private final String title; // 알림 제목
+        private final String message; // 첫 알림의 내용
+        private int count = 1; // 합쳐진 알림 수
+
+
+        /**
+         * Notice의 생성자
+         *
+         * @param title   알림 제목
+         * @param message 알림 내용
+         */
+        private Notice(String title, String message) {
+            this.title = title;
+            this.message = message;
+        }
+    }
+}
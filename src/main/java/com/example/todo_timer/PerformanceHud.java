@@ -0,0 +1,215 @@
+package com.example.todo_timer;
+
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.PauseTransition;
+import javafx.animation.Timeline;
+import javafx.collections.ListChangeListener;
+import javafx.geometry.Insets;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.input.KeyCombination;
+import javafx.scene.layout.StackPane;
+import javafx.scene.text.Font;
+import javafx.stage.Popup;
+import javafx.stage.Stage;
+import javafx.util.Duration;
+
+/**
+ * 성능 지표를 창 위에 겹쳐 보여 주고, 루트 StackPane에 화면이 쌓이는지 감시하는 클래스
+ * 표시 중에는 1초마다 레이아웃 펄스 시간, 초당 프레임 수, 루트 아래 노드 수, 살아 있는 화면 컨트롤러 수, 힙 사용량을 갱신
+ * 펄스 리스너와 갱신 타이머는 표시 중에만 동작하므로 숨겨 두면 비용이 없음
+ * 누수 감시는 항상 동작하며, 화면 전환이 끝나고 잠시 뒤에도 루트의 자식이 하나보다 많으면 경고
+ */
+public class PerformanceHud {
+    private static final PerformanceHud instance = new PerformanceHud(); // 애플리케이션 전체에서 공유하는 HUD
+
+    private static final KeyCombination TOGGLE_KEY = KeyCombination.keyCombination("Shortcut+Shift+P"); // 표시 전환 단축키
+    private static final Duration SAMPLE_INTERVAL = Duration.seconds(1); // 지표를 갱신하는 간격
+    private static final Duration SETTLE_DELAY = Duration.seconds(1); // 화면 전환이 끝났다고 보는 시간
+    private static final long BYTES_PER_MB = 1024 * 1024;
+
+    private Stage stage; // HUD를 띄울 창
+    private StackPane root; // 화면을 올려 두는 루트 StackPane
+    private Popup overlay; // 지표를 표시하는 팝업
+    private Label metrics; // 지표 텍스트
+    private Timeline sampler; // 1초마다 지표를 갱신하는 타이머
+    private final PauseTransition settleTimer = new PauseTransition(SETTLE_DELAY); // 루트 자식이 바뀐 뒤 누수를 검사하는 타이머
+    private int warnedChildCount = 1; // 마지막으로 경고한 루트 자식 수
+
+    // 펄스 측정 값 (JavaFX 애플리케이션 스레드 전용)
+    private long pulseStart; // 현재 펄스의 레이아웃 시작 시각
+    private long pulseCount; // 구간 안의 펄스 수
+    private long pulseNanos; // 구간 안의 레이아웃 시간 합계
+    private long pulseMaxNanos; // 구간 안의 가장 긴 레이아웃 시간
+    private long sampleStart; // 구간 시작 시각
+    private final Runnable preLayout = () -> pulseStart = System.nanoTime();
+    private final Runnable postLayout = this::pulseFinished;
+
+
+    /**
+     * PerformanceHud의 생성자
+     */
+    private PerformanceHud() {
+    }
+
+    /**
+     * PerformanceHud 인스턴스를 반환하는 메서드
+     *
+     * @return PerformanceHud 인스턴스
+     */
+    public static PerformanceHud getInstance() {
+        return instance;
+    }
+
+    /**
+     * 창에 표시 전환 단축키를 등록하고 루트 StackPane의 누수 감시를 시작하는 메서드
+     * 창을 띄운 뒤 한 번 호출하며, todo.timer.hud 시스템 속성이 true이면 처음부터 표시
+     *
+     * @param stage 주 창
+     * @param root  화면을 올려 두는 루트 StackPane
+     */
+    public void install(Stage stage, StackPane root) {
+        this.stage = stage;
+        this.root = root;
+        stage.getScene().getAccelerators().put(TOGGLE_KEY, this::toggle);
+
+        settleTimer.setOnFinished(event -> checkForLeak());
+        root.getChildren().addListener((ListChangeListener<Node>) change -> settleTimer.playFromStart());
+
+        if (Boolean.getBoolean("todo.timer.hud")) {
+            toggle();
+        }
+    }
+
+    /**
+     * HUD를 표시하거나 숨기는 메서드
+     */
+    public void toggle() {
+        if (overlay != null && overlay.isShowing()) {
+            hide();
+        } else {
+            show();
+        }
+    }
+
+    /**
+     * HUD를 표시하고 측정을 시작하는 메서드
+     */
+    private void show() {
+        if (overlay == null) {
+            createOverlay();
+        }
+        Scene scene = stage.getScene();
+        scene.addPreLayoutPulseListener(preLayout);
+        scene.addPostLayoutPulseListener(postLayout);
+        resetSample();
+        metrics.setText("측정 중...");
+        overlay.show(stage, stage.getX() + 8, stage.getY() + 30);
+        sampler.play();
+    }
+
+    /**
+     * HUD를 숨기고 측정을 멈추는 메서드
+     */
+    private void hide() {
+        sampler.stop();
+        overlay.hide();
+        Scene scene = stage.getScene();
+        scene.removePreLayoutPulseListener(preLayout);
+        scene.removePostLayoutPulseListener(postLayout);
+    }
+
+    /**
+     * HUD 팝업과 갱신 타이머를 만드는 메서드
+     */
+    private void createOverlay() {
+        metrics = new Label();
+        metrics.setFont(Font.font("Monospaced", 11));
+        metrics.setPadding(new Insets(6, 8, 6, 8));
+        metrics.setStyle("-fx-background-color: rgba(0, 0, 0, 0.7); -fx-text-fill: #7CFC00; -fx-background-radius: 4;");
+        metrics.setMouseTransparent(true);
+
+        overlay = new Popup();
+        overlay.getContent().add(metrics);
+
+        sampler = new Timeline(new KeyFrame(SAMPLE_INTERVAL, event -> sample()));
+        sampler.setCycleCount(Animation.INDEFINITE);
+    }
+
+    /**
+     * 펄스의 레이아웃이 끝났을 때 걸린 시간을 더하는 메서드
+     */
+    private void pulseFinished() {
+        long elapsed = System.nanoTime() - pulseStart;
+        pulseCount++;
+        pulseNanos += elapsed;
+        pulseMaxNanos = Math.max(pulseMaxNanos, elapsed);
+    }
+
+    /**
+     * 지금까지 모은 지표를 표시하고 다음 구간을 시작하는 메서드
+     */
+    private void sample() {
+        double seconds = (System.nanoTime() - sampleStart) / 1e9;
+        double fps = seconds > 0 ? pulseCount / seconds : 0;
+        double averageMillis = pulseCount > 0 ? pulseNanos / 1e6 / pulseCount : 0;
+        Runtime runtime = Runtime.getRuntime();
+        long usedHeap = (runtime.totalMemory() - runtime.freeMemory()) / BYTES_PER_MB;
+
+        metrics.setText(String.format("펄스  평균 %.2f ms / 최대 %.2f ms%nFPS   %.1f%n노드  %d%n컨트롤러 %d%n힙    %d / %d MB",
+                averageMillis, pulseMaxNanos / 1e6, fps,
+                countNodes(stage.getScene().getRoot()),
+                ViewRouter.getInstance().getLiveControllerCount(),
+                usedHeap, runtime.maxMemory() / BYTES_PER_MB));
+        overlay.setX(stage.getX() + 8); // 창을 옮겼으면 따라감
+        overlay.setY(stage.getY() + 30);
+        resetSample();
+    }
+
+    /**
+     * 측정 구간을 처음부터 다시 시작하는 메서드
+     */
+    private void resetSample() {
+        sampleStart = System.nanoTime();
+        pulseCount = 0;
+        pulseNanos = 0;
+        pulseMaxNanos = 0;
+    }
+
+    /**
+     * 루트 StackPane에 화면이 하나보다 많이 남아 있으면 경고하는 메서드
+     * 같은 수로는 한 번만 경고하고, 하나로 돌아오면 다시 경고할 수 있도록 초기화
+     */
+    private void checkForLeak() {
+        int children = root.getChildren().size();
+        if (children <= 1) {
+            warnedChildCount = 1;
+            return;
+        }
+        if (children > warnedChildCount) {
+            warnedChildCount = children;
+            String message = String.format("화면 전환이 끝났는데 루트에 화면이 %d개 남아 있습니다.", children);
+            System.out.println("[누수 감시] " + message);
+            NotificationCenter.getInstance().notify("화면 누수 의심", message);
+        }
+    }
+
+    /**
+     * 노드와 그 아래의 모든 노드 수를 세는 메서드
+     *
+     * @param node 시작 노드
+     * @return 노드 수
+     */
+    private static int countNodes(Node node) {
+        int count = 1;
+        if (node instanceof Parent) {
+            for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+                count += countNodes(child);
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,627 @@
+package com.example.todo_timer;
+
+import javafx.application.Platform;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * 작업 이름, 프로젝트 이름, 메모를 단어 단위로 찾는 역색인 클래스
+ * 단어를 TreeMap에 정렬해 두므로 입력 중인 단어도 접두어 범위 조회로 바로 찾을 수 있음
+ * 처음 검색할 때 현재 작업 공간 전체로 색인을 만들고, 이후에는 WorkspaceListener로 바뀐 부분만 갱신
+ * 처음 색인은 백그라운드 스레드에서 만들고 준비되면 JavaFX 애플리케이션 스레드에 공개하며,
+ * 만드는 동안의 변경 사항은 모아 두었다가 공개할 때 적용
+ */
+public class SearchIndex implements WorkspaceListener {
+    private static SearchIndex instance; // 처음 검색할 때 만들어지는 공유 색인
+
+    private static final int NAME = 1; // 작업 이름에 포함된 단어
+    private static final int MEMO = 2; // 메모에 포함된 단어
+
+    // 일치한 위치와 방식에 따른 점수 (완전히 일치한 단어가 접두어로 일치한 단어보다 높음)
+    private static final int NAME_EXACT_SCORE = 8;
+    private static final int NAME_PREFIX_SCORE = 4;
+    private static final int PROJECT_EXACT_SCORE = 3;
+    private static final int PROJECT_PREFIX_SCORE = 2;
+    private static final int MEMO_EXACT_SCORE = 2;
+    private static final int MEMO_PREFIX_SCORE = 1;
+
+    // 단어 → (작업 → 단어가 들어 있는 위치)
+    private final TreeMap<String, Map<Task, Integer>> taskTerms = new TreeMap<>();
+
+    // 단어 → 이름에 단어가 들어 있는 프로젝트
+    private final TreeMap<String, Set<ProjectManager>> projectTerms = new TreeMap<>();
+
+    // 메모가 바뀌면 이전 단어를 지워야 하므로 작업별로 메모의 단어를 기억
+    private final Map<Task, String[]> memoTerms = new HashMap<>();
+
+    // 검색할 때만 쓰는 작업별 값 (작업 고유 번호가 위치), 검색마다 표시 값을 바꾸므로 지우지 않고 재사용
+    private int[] slotSearch = new int[0]; // 후보로 등록된 검색 번호
+    private int[] slotToken = new int[0]; // 마지막으로 일치한 검색 단어 번호
+    private int[] slotBest = new int[0]; // 현재 검색 단어에서의 최고 점수
+    private int[] slotTotal = new int[0]; // 합산 점수
+    private int[] slotMatched = new int[0]; // 일치한 검색 단어 수
+    private int[] slotActive = new int[0]; // 진행 중인 작업이면 1
+    private int[] candidates = new int[0]; // 후보 작업의 고유 번호
+    private int candidateCount; // 후보 작업 수
+    private int searchStamp; // 검색 번호
+    private int tokenStamp; // 검색 단어 번호
+
+    private boolean ready; // 처음 색인을 다 만들어 공개했으면 true
+    private final List<Runnable> readyCallbacks = new ArrayList<>(); // 색인이 준비되면 호출할 콜백
+
+
+    /**
+     * SearchIndex의 생성자
+     */
+    private SearchIndex() {
+    }
+
+    /**
+     * 공유 색인을 반환하는 메서드
+     * 처음 호출될 때 저장된 작업 공간을 백그라운드 스레드에서 색인하기 시작하므로 작업 공간을 불러온 뒤에 호출
+     * 색인이 준비되기 전에는 검색 결과가 비어 있으므로 whenReady로 준비된 뒤에 다시 검색
+     *
+     * @return SearchIndex 인스턴스
+     */
+    public static SearchIndex getInstance() {
+        if (instance == null) {
+            instance = new SearchIndex();
+            instance.startBuild();
+        }
+        return instance;
+    }
+
+    /**
+     * 처음 색인이 준비되었는지 반환하는 메서드
+     *
+     * @return 준비되었으면 true
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 색인이 준비되면 콜백을 호출하는 메서드
+     * 이미 준비되었으면 바로 호출
+     *
+     * @param callback JavaFX 애플리케이션 스레드에서 호출할 콜백
+     */
+    public void whenReady(Runnable callback) {
+        if (ready) {
+            callback.run();
+        } else {
+            readyCallbacks.add(callback);
+        }
+    }
+
+    /**
+     * 현재 작업 공간의 이름과 메모 참조를 복사하고 백그라운드 스레드에서 색인을 만들기 시작하는 메서드
+     * 복사한 뒤의 변경 사항은 PendingChanges에 모아 두었다가 색인을 공개할 때 적용
+     */
+    private void startBuild() {
+        TaskRepository repository = TaskRepository.getInstance();
+        MemoStore memoStore = TaskMetadataStore.getInstance().getMemoStore();
+        List<ProjectManager> projects = new ArrayList<>(repository.getProjects());
+        String[] projectNames = new String[projects.size()];
+        Task[] tasks = new Task[repository.getTaskCount()];
+        String[] taskNames = new String[tasks.length];
+        long[] memoRefs = new long[tasks.length];
+        int taskIndex = 0;
+        for (int i = 0; i < projects.size(); i++) {
+            ProjectManager project = projects.get(i);
+            projectNames[i] = project.getName();
+            for (Task task : project.getTasks()) {
+                tasks[taskIndex] = task;
+                taskNames[taskIndex] = task.getName();
+                memoRefs[taskIndex++] = memoStore.getRef(task);
+            }
+            for (Task task : project.getCompletedTasks()) {
+                tasks[taskIndex] = task;
+                taskNames[taskIndex] = task.getName();
+                memoRefs[taskIndex++] = memoStore.getRef(task);
+            }
+        }
+
+        PendingChanges pending = new PendingChanges();
+        repository.addWorkspaceListener(pending);
+        Thread builder = new Thread(() -> {
+            build(projects, projectNames, tasks, taskNames, memoRefs, memoStore);
+            Platform.runLater(() -> publish(pending));
+        }, "search-index-builder");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    /**
+     * 복사해 둔 프로젝트와 작업을 색인하는 메서드
+     * 백그라운드 스레드에서 호출되며, 메모는 캐시를 거치지 않고 메모 파일의 위치 순서로 한 번씩 읽어 단어만 남김
+     *
+     * @param projects     프로젝트
+     * @param projectNames 프로젝트 이름 (projects와 같은 순서)
+     * @param tasks        작업
+     * @param taskNames    작업 이름 (tasks와 같은 순서)
+     * @param memoRefs     메모 참조 (tasks와 같은 순서)
+     * @param memoStore    메모를 읽을 메모 저장소
+     */
+    private void build(List<ProjectManager> projects, String[] projectNames, Task[] tasks, String[] taskNames,
+                       long[] memoRefs, MemoStore memoStore) {
+        for (int i = 0; i < projects.size(); i++) {
+            addProjectTerms(projects.get(i), projectNames[i]);
+        }
+        for (int i = 0; i < tasks.length; i++) {
+            addTerms(tasks[i], tokenize(taskNames[i]), NAME);
+        }
+        try {
+            memoStore.scan(tasks, memoRefs, this::addMemo);
+        } catch (IOException | RuntimeException e) {
+            // 메모를 읽지 못해도 이름으로는 검색할 수 있도록 색인은 공개
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * 다 만든 색인에 그동안의 변경 사항을 적용하고 공개하는 메서드
+     * JavaFX 애플리케이션 스레드에서 호출되며, 이후의 변경 사항은 색인이 직접 받음
+     *
+     * @param pending 색인을 만드는 동안 모아 둔 변경 사항
+     */
+    private void publish(PendingChanges pending) {
+        TaskRepository repository = TaskRepository.getInstance();
+        repository.removeWorkspaceListener(pending);
+        for (Consumer<SearchIndex> change : pending.changes) {
+            change.accept(this);
+        }
+        repository.addWorkspaceListener(this);
+        ready = true;
+        for (Runnable callback : readyCallbacks) {
+            callback.run();
+        }
+        readyCallbacks.clear();
+    }
+
+    /**
+     * 검색어의 모든 단어와 일치하는 작업을 점수 순으로 반환하는 메서드
+     * 각 단어는 작업 이름, 프로젝트 이름, 메모의 단어와 접두어로 비교
+     * 점수가 같으면 진행 중인 작업, 최근에 추가한 작업 순으로 정렬
+     *
+     * @param query 검색어
+     * @param limit 반환할 최대 작업 수
+     * @return 검색된 작업 목록
+     */
+    public List<Task> search(String query, int limit) {
+        List<Task> results = new ArrayList<>();
+        List<String> tokens = new ArrayList<>(tokenize(query));
+        if (!ready || tokens.isEmpty() || limit <= 0) {
+            return results;
+        }
+        // 일치하는 작업이 적은 단어를 먼저 처리하여 후보를 줄임
+        Map<String, Integer> counts = new HashMap<>();
+        for (String token : tokens) {
+            counts.put(token, countMatches(token));
+        }
+        tokens.sort(Comparator.comparingInt(counts::get));
+
+        TaskRepository repository = TaskRepository.getInstance();
+        ensureCapacity(repository.getNextTaskId());
+        searchStamp++;
+        candidateCount = 0;
+        for (int i = 0; i < tokens.size() && (i == 0 || candidateCount > 0); i++) {
+            scoreToken(tokens.get(i), i);
+        }
+
+        // 점수, 진행 중 여부, 고유 번호를 하나의 long으로 묶어 상위 limit개만 힙에 유지
+        long[] heap = new long[Math.min(limit, candidateCount)];
+        int heapSize = 0;
+        for (int c = 0; c < candidateCount; c++) {
+            int slot = candidates[c];
+            long key = (long) slotTotal[slot] << 40 | (long) slotActive[slot] << 39 | slot;
+            if (heapSize < heap.length) {
+                heap[heapSize] = key;
+                siftUp(heap, heapSize++);
+            } else if (key > heap[0]) {
+                heap[0] = key;
+                siftDown(heap, heapSize);
+            }
+        }
+        Arrays.sort(heap, 0, heapSize);
+        for (int k = heapSize - 1; k >= 0; k--) {
+            Task task = repository.getTask(heap[k] & ((1L << 39) - 1));
+            if (task != null) {
+                results.add(task);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 검색어의 한 단어에 대해 후보 작업의 점수를 더하는 메서드
+     * 첫 단어는 일치하는 작업을 후보로 등록하고, 이후 단어는 이전 단어와 모두 일치한 후보만 남김
+     * 작업별 값은 고유 번호를 위치로 하는 배열에 두어 검색할 때마다 Map을 만들지 않음
+     *
+     * @param token 검색 단어
+     * @param index 검색 단어의 순서
+     */
+    private void scoreToken(String token, int index) {
+        tokenStamp++;
+        String end = token + Character.MAX_VALUE;
+
+        for (Map.Entry<String, Map<Task, Integer>> entry : taskTerms.subMap(token, true, end, false).entrySet()) {
+            boolean exact = entry.getKey().equals(token);
+            for (Map.Entry<Task, Integer> posting : entry.getValue().entrySet()) {
+                int fields = posting.getValue();
+                int score;
+                if ((fields & NAME) != 0) {
+                    score = exact ? NAME_EXACT_SCORE : NAME_PREFIX_SCORE;
+                } else {
+                    score = exact ? MEMO_EXACT_SCORE : MEMO_PREFIX_SCORE;
+                }
+                visit(posting.getKey(), score, index);
+            }
+        }
+
+        // 프로젝트 이름이 일치하면 그 프로젝트의 작업이 모두 검색됨
+        for (Map.Entry<String, Set<ProjectManager>> entry : projectTerms.subMap(token, true, end, false).entrySet()) {
+            int score = entry.getKey().equals(token) ? PROJECT_EXACT_SCORE : PROJECT_PREFIX_SCORE;
+            for (ProjectManager project : entry.getValue()) {
+                for (Task task : project.getTasks()) {
+                    visit(task, score, index);
+                }
+                for (Task task : project.getCompletedTasks()) {
+                    visit(task, score, index);
+                }
+            }
+        }
+
+        // 이번 단어와 일치한 후보만 남기고 단어별 최고 점수를 합산
+        int kept = 0;
+        for (int c = 0; c < candidateCount; c++) {
+            int slot = candidates[c];
+            if (slotToken[slot] == tokenStamp) {
+                slotTotal[slot] += slotBest[slot];
+                slotMatched[slot] = index + 1;
+                candidates[kept++] = slot;
+            }
+        }
+        candidateCount = kept;
+    }
+
+    /**
+     * 검색 단어와 일치하는 작업 수를 어림하는 메서드
+     * 같은 작업이 여러 단어에서 일치하면 중복으로 세므로 실제보다 클 수 있음
+     *
+     * @param token 검색 단어
+     * @return 일치하는 작업 수의 추정값
+     */
+    private int countMatches(String token) {
+        String end = token + Character.MAX_VALUE;
+        int count = 0;
+        for (Map<Task, Integer> postings : taskTerms.subMap(token, true, end, false).values()) {
+            count += postings.size();
+        }
+        for (Set<ProjectManager> projects : projectTerms.subMap(token, true, end, false).values()) {
+            for (ProjectManager project : projects) {
+                count += project.getTasks().size() + project.getCompletedTasks().size();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 검색 단어와 일치한 작업의 점수를 기록하는 메서드
+     *
+     * @param task  일치한 작업
+     * @param score 일치한 위치에 따른 점수
+     * @param index 검색 단어의 순서
+     */
+    private void visit(Task task, int score, int index) {
+        int slot = (int) task.getId();
+        if (index == 0) {
+            if (slotSearch[slot] != searchStamp) {
+                slotSearch[slot] = searchStamp;
+                slotTotal[slot] = 0;
+                slotMatched[slot] = 0;
+                slotActive[slot] = task.isCompleted() ? 0 : 1;
+                candidates[candidateCount++] = slot;
+            }
+        } else if (slotSearch[slot] != searchStamp || slotMatched[slot] != index) {
+            return; // 앞의 단어와 일치하지 않은 작업
+        }
+        if (slotToken[slot] != tokenStamp) {
+            slotToken[slot] = tokenStamp;
+            slotBest[slot] = score;
+        } else if (score > slotBest[slot]) {
+            slotBest[slot] = score;
+        }
+    }
+
+    /**
+     * 작업별 검색 배열을 작업 고유 번호 범위만큼 늘리는 메서드
+     *
+     * @param size 필요한 크기 (다음에 발급할 작업 고유 번호)
+     */
+    private void ensureCapacity(long size) {
+        if (size <= slotSearch.length) {
+            return;
+        }
+        int capacity = (int) Math.max(size, slotSearch.length * 3L / 2);
+        slotSearch = Arrays.copyOf(slotSearch, capacity);
+        slotToken = Arrays.copyOf(slotToken, capacity);
+        slotBest = Arrays.copyOf(slotBest, capacity);
+        slotTotal = Arrays.copyOf(slotTotal, capacity);
+        slotMatched = Arrays.copyOf(slotMatched, capacity);
+        slotActive = Arrays.copyOf(slotActive, capacity);
+        candidates = Arrays.copyOf(candidates, capacity);
+    }
+
+    /**
+     * 최소 힙에 새로 넣은 값을 위로 올리는 메서드
+     *
+     * @param heap  힙 배열
+     * @param index 새로 넣은 위치
+     */
+    private static void siftUp(long[] heap, int index) {
+        long key = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (heap[parent] <= key) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = key;
+    }
+
+    /**
+     * 최소 힙의 맨 위 값을 아래로 내리는 메서드
+     *
+     * @param heap 힙 배열
+     * @param size 힙 크기
+     */
+    private static void siftDown(long[] heap, int size) {
+        long key = heap[0];
+        int index = 0;
+        while (true) {
+            int child = index * 2 + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (key <= heap[child]) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = key;
+    }
+
+    @Override
+    public void projectAdded(ProjectManager project) {
+        addProjectTerms(project, project.getName());
+    }
+
+    @Override
+    public void projectRenamed(ProjectManager project, String oldName) {
+        removeProjectTerms(project, oldName);
+        projectAdded(project);
+    }
+
+    @Override
+    public void projectDeleted(ProjectManager project) {
+        removeProjectTerms(project, project.getName());
+        // 프로젝트를 삭제할 때는 작업마다 taskDeleted가 호출되지 않으므로 여기서 작업도 제거
+        for (Task task : project.getTasks()) {
+            taskDeleted(task);
+        }
+        for (Task task : project.getCompletedTasks()) {
+            taskDeleted(task);
+        }
+    }
+
+    @Override
+    public void taskAdded(Task task) {
+        addTerms(task, tokenize(task.getName()), NAME);
+    }
+
+    @Override
+    public void taskRenamed(Task task, String oldName) {
+        removeTerms(task, tokenize(oldName), NAME);
+        taskAdded(task);
+    }
+
+    @Override
+    public void taskDeleted(Task task) {
+        removeTerms(task, tokenize(task.getName()), NAME);
+        String[] terms = memoTerms.remove(task);
+        if (terms != null) {
+            removeTerms(task, List.of(terms), MEMO);
+        }
+    }
+
+    @Override
+    public void memoChanged(Task task, String memo) {
+        String[] terms = memoTerms.remove(task);
+        if (terms != null) {
+            removeTerms(task, List.of(terms), MEMO);
+        }
+        addMemo(task, memo);
+    }
+
+    /**
+     * 메모의 단어를 색인에 추가하는 메서드
+     *
+     * @param task 작업
+     * @param memo 작업 메모
+     */
+    private void addMemo(Task task, String memo) {
+        Collection<String> terms = tokenize(memo);
+        if (!terms.isEmpty()) {
+            memoTerms.put(task, addTerms(task, terms, MEMO));
+        }
+    }
+
+    /**
+     * 작업의 단어를 색인에 추가하는 메서드
+     *
+     * @param task  작업
+     * @param terms 추가할 단어
+     * @param field 단어가 들어 있는 위치 (NAME 또는 MEMO)
+     * @return 색인에 저장된 단어 (같은 단어는 색인의 문자열을 공유)
+     */
+    private String[] addTerms(Task task, Collection<String> terms, int field) {
+        String[] stored = new String[terms.size()];
+        int i = 0;
+        for (String term : terms) {
+            Map<Task, Integer> postings = taskTerms.get(term);
+            if (postings == null) {
+                postings = new HashMap<>(2);
+                taskTerms.put(term, postings);
+            } else {
+                term = taskTerms.ceilingKey(term);
+            }
+            postings.merge(task, field, (a, b) -> a | b);
+            stored[i++] = term;
+        }
+        return stored;
+    }
+
+    /**
+     * 작업의 단어를 색인에서 제거하는 메서드
+     *
+     * @param task  작업
+     * @param terms 제거할 단어
+     * @param field 단어가 들어 있던 위치 (NAME 또는 MEMO)
+     */
+    private void removeTerms(Task task, Collection<String> terms, int field) {
+        for (String term : terms) {
+            Map<Task, Integer> postings = taskTerms.get(term);
+            if (postings == null) {
+                continue;
+            }
+            Integer fields = postings.get(task);
+            if (fields == null) {
+                continue;
+            }
+            int remaining = fields & ~field;
+            if (remaining == 0) {
+                postings.remove(task);
+                if (postings.isEmpty()) {
+                    taskTerms.remove(term);
+                }
+            } else {
+                postings.put(task, remaining);
+            }
+        }
+    }
+
+    /**
+     * 프로젝트 이름의 단어를 색인에 추가하는 메서드
+     *
+     * @param project 프로젝트
+     * @param name    추가할 프로젝트 이름
+     */
+    private void addProjectTerms(ProjectManager project, String name) {
+        for (String term : tokenize(name)) {
+            projectTerms.computeIfAbsent(term, key -> new HashSet<>()).add(project);
+        }
+    }
+
+    /**
+     * 프로젝트 이름의 단어를 색인에서 제거하는 메서드
+     *
+     * @param project 프로젝트
+     * @param name    제거할 프로젝트 이름
+     */
+    private void removeProjectTerms(ProjectManager project, String name) {
+        for (String term : tokenize(name)) {
+            Set<ProjectManager> projects = projectTerms.get(term);
+            if (projects != null && projects.remove(project) && projects.isEmpty()) {
+                projectTerms.remove(term);
+            }
+        }
+    }
+
+    /**
+     * 문자열을 소문자 단어로 나누는 메서드
+     * 글자와 숫자가 아닌 문자를 구분자로 사용하며 같은 단어는 한 번만 반환
+     *
+     * @param text 나눌 문자열
+     * @return 단어 목록
+     */
+    static Collection<String> tokenize(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (text == null) {
+            return terms;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean letter = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                terms.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 색인을 만드는 동안의 변경 사항을 순서대로 모아 두는 리스너 클래스
+     * 일어난 순서대로 적용하므로 같은 작업이 여러 번 바뀌어도 마지막 값이 남음
+     */
+    private static final class PendingChanges implements WorkspaceListener {
+        private final List<Consumer<SearchIndex>> changes = new ArrayList<>(); // 공개할 때 색인에 적용할 변경 사항
+
+        @Override
+        public void projectAdded(ProjectManager project) {
+            changes.add(index -> index.projectAdded(project));
+        }
+
+        @Override
+        public void projectRenamed(ProjectManager project, String oldName) {
+            changes.add(index -> index.projectRenamed(project, oldName));
+        }
+
+        @Override
+        public void projectDeleted(ProjectManager project) {
+            changes.add(index -> index.projectDeleted(project));
+        }
+
+        @Override
+        public void taskAdded(Task task) {
+            changes.add(index -> index.taskAdded(task));
+        }
+
+        @Override
+        public void taskRenamed(Task task, String oldName) {
+            changes.add(index -> index.taskRenamed(task, oldName));
+        }
+
+        @Override
+        public void taskDeleted(Task task) {
+            changes.add(index -> index.taskDeleted(task));
+        }
+
+        @Override
+        public void memoChanged(Task task, String memo) {
+            changes.add(index -> index.memoChanged(task, memo));
+        }
+    }
+}
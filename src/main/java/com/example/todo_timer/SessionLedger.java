@@ -0,0 +1,657 @@
+package com.example.todo_timer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.zip.CRC32;
+
+/**
+ * 타이머가 실행된 집중/휴식 구간을 작업별로 남기는 덧붙이기 전용 기록 클래스
+ * 구간은 SEGMENT_CAPACITY개씩 묶어 세그먼트로 봉인하며, 세그먼트 안에서는 시작 시각과 작업 고유 번호를
+ * 앞 구간과의 차이로, 길이와 함께 가변 길이 정수(varint)로 저장하므로 구간 하나가 보통 5~6바이트를 차지
+ * 아직 봉인되지 않은 구간은 꼬리 파일에 한 건씩 덧붙여 두고, 세그먼트가 봉인되면 꼬리 파일을 비움
+ * 시작할 때 세그먼트별 시간 범위와 작업 목록만 메모리에 두고, 조회할 때 필요한 세그먼트만 읽어 하나씩 풀어냄
+ *
+ * 세그먼트 형식: [본문 길이(int)][본문][본문의 CRC32(int)]
+ * 본문 형식: [세그먼트 번호(int)][구간 수(int)][최소 시작(long)][최대 종료(long)][구간...]
+ * 구간 형식: [varint(zigzag(시작 - 앞 구간 시작) × 2 + 휴식 여부)][varint(종료 - 시작)][varint(zigzag(작업 번호 - 앞 구간 작업 번호))]
+ * 꼬리 레코드 형식: [본문 길이(int)][세그먼트 번호(int)][작업 번호(long)][시작(long)][종료(long)][휴식 여부(byte)][CRC32(int)]
+ * 시각은 모두 epoch 초
+ */
+public class SessionLedger implements TimerService.RunListener {
+    private static final SessionLedger instance = new SessionLedger(); // 애플리케이션 전체에서 공유하는 기록
+
+    public static final long NO_TASK = -1; // 작업과 연결되지 않은 타이머의 작업 번호
+
+    static final int SEGMENT_CAPACITY = 512; // 세그먼트 하나에 담는 구간 수
+
+    private static final String SEGMENT_FILE = "sessions.ledger"; // 봉인된 세그먼트 파일 이름
+    private static final String TAIL_FILE = "sessions.tail"; // 봉인되지 않은 구간 파일 이름
+    private static final int SEGMENT_HEADER_BYTES = 4 + 4 + 8 + 8; // 세그먼트 본문의 고정 길이 머리
+    private static final int TAIL_BODY_BYTES = 4 + 8 + 8 + 8 + 1; // 꼬리 레코드 본문 길이
+
+    private FileChannel segmentChannel; // 봉인된 세그먼트 파일
+    private FileChannel tailChannel; // 봉인되지 않은 구간 파일
+    private final List<SegmentInfo> segments = new ArrayList<>(); // 봉인된 세그먼트의 위치와 범위
+    private final Map<Long, BitSet> taskSegments = new HashMap<>(); // 작업 번호 → 그 작업의 구간이 있는 세그먼트
+    private final List<Session> openSessions = new ArrayList<>(); // 봉인되지 않은 구간
+    private final List<Consumer<Session>> sessionListeners = new CopyOnWriteArrayList<>(); // 새 구간을 전달받을 리스너
+    private final CRC32 crc = new CRC32();
+
+
+    /**
+     * SessionLedger의 생성자
+     */
+    private SessionLedger() {
+    }
+
+    /**
+     * SessionLedger 인스턴스를 반환하는 메서드
+     *
+     * @return SessionLedger 인스턴스
+     */
+    public static SessionLedger getInstance() {
+        return instance;
+    }
+
+    /**
+     * 기록 파일을 열고 세그먼트 목록을 읽은 뒤 타이머의 실행 구간을 받기 시작하는 메서드
+     * 기록 도중 중단되어 길이나 CRC가 맞지 않는 꼬리는 잘라냄
+     *
+     * @param directory 작업 공간 폴더 경로
+     * @throws IOException 파일을 읽는 데 실패한 경우
+     */
+    public synchronized void open(Path directory) throws IOException {
+        if (segmentChannel != null) {
+            return;
+        }
+        segmentChannel = FileChannel.open(directory.resolve(SEGMENT_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        tailChannel = FileChannel.open(directory.resolve(TAIL_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segments.clear();
+        taskSegments.clear();
+        openSessions.clear();
+        loadSegments();
+        loadTail();
+        TimerService.getInstance().setRunListener(this);
+    }
+
+    /**
+     * 기록 파일을 닫는 메서드
+     * 봉인되지 않은 구간은 꼬리 파일에 남아 다음 시작 때 이어서 모음
+     */
+    public synchronized void close() {
+        if (segmentChannel == null) {
+            return;
+        }
+        TimerService.getInstance().setRunListener(null);
+        try {
+            segmentChannel.close();
+            tailChannel.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        segmentChannel = null;
+        tailChannel = null;
+    }
+
+    @Override
+    public void runEnded(Task task, boolean rest, long startMillis, long endMillis) {
+        long start = TimeUnit.MILLISECONDS.toSeconds(startMillis);
+        long end = TimeUnit.MILLISECONDS.toSeconds(endMillis);
+        if (end > start) {
+            record(task != null ? task.getId() : NO_TASK, start, end, rest);
+        }
+    }
+
+    /**
+     * 구간 하나를 기록하는 메서드
+     * 꼬리 파일에 덧붙이고, 모인 구간이 SEGMENT_CAPACITY개가 되면 세그먼트로 봉인
+     *
+     * @param taskId 작업 고유 번호, 작업이 없으면 NO_TASK
+     * @param start  시작 시각 (epoch 초)
+     * @param end    종료 시각 (epoch 초)
+     * @param rest   휴식 구간이면 true
+     */
+    public synchronized void record(long taskId, long start, long end, boolean rest) {
+        Session session = new Session(taskId, start, end, rest);
+        openSessions.add(session);
+        if (segmentChannel != null) {
+            try {
+                appendTail(session);
+                if (openSessions.size() >= SEGMENT_CAPACITY) {
+                    seal();
+                }
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+        for (Consumer<Session> listener : sessionListeners) {
+            listener.accept(session);
+        }
+    }
+
+    /**
+     * 지정한 순서 이후의 구간을 먼저 전달한 뒤, 이후 기록되는 구간을 전달받도록 리스너를 등록하는 메서드
+     * 두 과정이 같은 잠금 안에서 이루어지므로 구간이 빠지거나 두 번 전달되지 않음
+     *
+     * @param fromIndex 먼저 전달할 첫 구간의 순서 (0부터, 기록 순서 기준)
+     * @param listener  구간을 전달받을 리스너
+     */
+    public synchronized void addSessionListener(long fromIndex, Consumer<Session> listener) {
+        // 앞쪽 세그먼트는 구간 수만 보고 건너뜀
+        BitSet candidates = new BitSet(segments.size());
+        long skip = fromIndex;
+        for (int i = 0; i < segments.size(); i++) {
+            int count = segments.get(i).count;
+            if (skip >= count && candidates.isEmpty()) {
+                skip -= count;
+            } else {
+                candidates.set(i);
+            }
+        }
+        Iterator<Session> sessions = iterate(candidates, session -> true).iterator();
+        while (sessions.hasNext()) {
+            Session session = sessions.next();
+            if (skip > 0) {
+                skip--;
+            } else {
+                listener.accept(session);
+            }
+        }
+        sessionListeners.add(listener);
+    }
+
+    /**
+     * 구간 리스너를 제거하는 메서드
+     *
+     * @param listener 제거할 리스너
+     */
+    public void removeSessionListener(Consumer<Session> listener) {
+        sessionListeners.remove(listener);
+    }
+
+    /**
+     * 시간 범위와 겹치는 구간을 하나씩 읽어 오는 메서드
+     * 범위와 겹치지 않는 세그먼트는 읽지 않음
+     *
+     * @param from 범위 시작 (epoch 초, 포함)
+     * @param to   범위 끝 (epoch 초, 제외)
+     * @return 범위와 겹치는 구간, 세그먼트 순서(기록 순서)대로
+     */
+    public synchronized Iterable<Session> getSessions(long from, long to) {
+        BitSet candidates = new BitSet(segments.size());
+        for (int i = 0; i < segments.size(); i++) {
+            SegmentInfo segment = segments.get(i);
+            if (segment.minStart < to && segment.maxEnd > from) {
+                candidates.set(i);
+            }
+        }
+        return iterate(candidates, session -> session.start < to && session.end > from);
+    }
+
+    /**
+     * 작업의 구간을 하나씩 읽어 오는 메서드
+     * 그 작업의 구간이 없는 세그먼트는 읽지 않음
+     *
+     * @param taskId 작업 고유 번호, 작업이 없는 구간은 NO_TASK
+     * @return 작업의 구간, 세그먼트 순서(기록 순서)대로
+     */
+    public synchronized Iterable<Session> getSessionsOf(long taskId) {
+        BitSet candidates = taskSegments.get(taskId);
+        candidates = candidates != null ? (BitSet) candidates.clone() : new BitSet();
+        return iterate(candidates, session -> session.taskId == taskId);
+    }
+
+    /**
+     * 지금까지 기록된 구간 수를 반환하는 메서드
+     *
+     * @return 구간 수
+     */
+    public synchronized long getSessionCount() {
+        long count = openSessions.size();
+        for (SegmentInfo segment : segments) {
+            count += segment.count;
+        }
+        return count;
+    }
+
+    /**
+     * 후보 세그먼트와 봉인되지 않은 구간을 차례로 읽는 Iterable을 만드는 메서드
+     * 만든 시점의 세그먼트 목록과 봉인되지 않은 구간을 복사해 두므로 읽는 동안 기록되는 구간은 포함하지 않음
+     *
+     * @param candidates 읽을 세그먼트 위치
+     * @param filter     반환할 구간의 조건
+     * @return 구간 Iterable
+     */
+    private Iterable<Session> iterate(BitSet candidates, Predicate<Session> filter) {
+        List<SegmentInfo> segmentList = new ArrayList<>();
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            segmentList.add(segments.get(i));
+        }
+        List<Session> tail = new ArrayList<>(openSessions);
+        FileChannel channel = segmentChannel;
+        return () -> new SessionIterator(channel, segmentList, tail, filter);
+    }
+
+    /**
+     * 세그먼트 파일을 처음부터 읽어 세그먼트 목록과 작업별 색인을 만드는 메서드
+     *
+     * @throws IOException 파일을 읽는 데 실패한 경우
+     */
+    private void loadSegments() throws IOException {
+        long size = segmentChannel.size();
+        long position = 0;
+        ByteBuffer lengthBuffer = ByteBuffer.allocate(4);
+        while (position + 4 <= size) {
+            lengthBuffer.clear();
+            readFully(segmentChannel, lengthBuffer, position);
+            int length = lengthBuffer.getInt(0);
+            if (length < SEGMENT_HEADER_BYTES || position + 4 + length + 4 > size) {
+                break; // 기록 도중 중단된 세그먼트
+            }
+            ByteBuffer body = ByteBuffer.allocate(length + 4);
+            readFully(segmentChannel, body, position + 4);
+            crc.reset();
+            crc.update(body.array(), 0, length);
+            if ((int) crc.getValue() != body.getInt(length)) {
+                break;
+            }
+            body.limit(length);
+            SegmentInfo segment = new SegmentInfo(position + 4, length, body.getInt(4), body.getLong(8), body.getLong(16));
+            if (body.getInt(0) != segments.size()) {
+                break; // 번호가 이어지지 않는 세그먼트
+            }
+            indexSegment(segment, body);
+            segments.add(segment);
+            position += 4 + length + 4;
+        }
+        if (position < size) {
+            segmentChannel.truncate(position);
+        }
+        segmentChannel.position(position);
+    }
+
+    /**
+     * 세그먼트의 구간을 풀어 작업별 색인에 등록하는 메서드
+     *
+     * @param segment 세그먼트 정보
+     * @param body    세그먼트 본문
+     */
+    private void indexSegment(SegmentInfo segment, ByteBuffer body) {
+        SegmentDecoder decoder = new SegmentDecoder(body, segment.count);
+        int index = segments.size();
+        while (decoder.hasNext()) {
+            taskSegments.computeIfAbsent(decoder.next().taskId, key -> new BitSet()).set(index);
+        }
+    }
+
+    /**
+     * 꼬리 파일에서 다음에 봉인할 세그먼트의 구간을 읽는 메서드
+     * 세그먼트를 봉인한 뒤 꼬리 파일을 비우기 전에 중단되었으면 이미 봉인된 구간은 버림
+     *
+     * @throws IOException 파일을 읽는 데 실패한 경우
+     */
+    private void loadTail() throws IOException {
+        long size = tailChannel.size();
+        long position = 0;
+        boolean stale = false;
+        ByteBuffer frame = ByteBuffer.allocate(4 + TAIL_BODY_BYTES + 4);
+        while (position + frame.capacity() <= size) {
+            frame.clear();
+            readFully(tailChannel, frame, position);
+            crc.reset();
+            crc.update(frame.array(), 4, TAIL_BODY_BYTES);
+            if (frame.getInt(0) != TAIL_BODY_BYTES || (int) crc.getValue() != frame.getInt(4 + TAIL_BODY_BYTES)) {
+                break;
+            }
+            if (frame.getInt(4) == segments.size()) {
+                openSessions.add(new Session(frame.getLong(8), frame.getLong(16), frame.getLong(24), frame.get(32) != 0));
+            } else {
+                stale = true;
+            }
+            position += frame.capacity();
+        }
+        if (stale || position < size) {
+            // 버린 레코드가 있으면 남길 구간만 다시 기록
+            tailChannel.truncate(0);
+            tailChannel.position(0);
+            for (Session session : openSessions) {
+                appendTail(session);
+            }
+        } else {
+            tailChannel.position(position);
+        }
+        if (openSessions.size() >= SEGMENT_CAPACITY) {
+            seal();
+        }
+    }
+
+    /**
+     * 봉인되지 않은 구간 하나를 꼬리 파일에 덧붙이는 메서드
+     *
+     * @param session 구간
+     * @throws IOException 기록에 실패한 경우
+     */
+    private void appendTail(Session session) throws IOException {
+        ByteBuffer frame = ByteBuffer.allocate(4 + TAIL_BODY_BYTES + 4);
+        frame.putInt(TAIL_BODY_BYTES).putInt(segments.size()).putLong(session.taskId)
+                .putLong(session.start).putLong(session.end).put((byte) (session.rest ? 1 : 0));
+        crc.reset();
+        crc.update(frame.array(), 4, TAIL_BODY_BYTES);
+        frame.putInt((int) crc.getValue());
+        frame.flip();
+        while (frame.hasRemaining()) {
+            tailChannel.write(frame);
+        }
+        tailChannel.force(false);
+    }
+
+    /**
+     * 봉인되지 않은 구간을 세그먼트로 만들어 세그먼트 파일에 덧붙이고 꼬리 파일을 비우는 메서드
+     *
+     * @throws IOException 기록에 실패한 경우
+     */
+    private void seal() throws IOException {
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        long minStart = Long.MAX_VALUE;
+        long maxEnd = Long.MIN_VALUE;
+        long previousStart = 0;
+        long previousTaskId = 0;
+        for (Session session : openSessions) {
+            writeVarLong(records, zigzag(session.start - previousStart) << 1 | (session.rest ? 1 : 0));
+            writeVarLong(records, session.end - session.start);
+            writeVarLong(records, zigzag(session.taskId - previousTaskId));
+            previousStart = session.start;
+            previousTaskId = session.taskId;
+            minStart = Math.min(minStart, session.start);
+            maxEnd = Math.max(maxEnd, session.end);
+        }
+
+        int length = SEGMENT_HEADER_BYTES + records.size();
+        ByteBuffer frame = ByteBuffer.allocate(4 + length + 4);
+        frame.putInt(length).putInt(segments.size()).putInt(openSessions.size()).putLong(minStart).putLong(maxEnd)
+                .put(records.toByteArray());
+        crc.reset();
+        crc.update(frame.array(), 4, length);
+        frame.putInt((int) crc.getValue());
+        frame.flip();
+
+        long position = segmentChannel.position();
+        while (frame.hasRemaining()) {
+            segmentChannel.write(frame);
+        }
+        segmentChannel.force(false);
+
+        SegmentInfo segment = new SegmentInfo(position + 4, length, openSessions.size(), minStart, maxEnd);
+        int index = segments.size();
+        for (Session session : openSessions) {
+            taskSegments.computeIfAbsent(session.taskId, key -> new BitSet()).set(index);
+        }
+        segments.add(segment);
+        openSessions.clear();
+
+        // 세그먼트 번호가 바뀌었으므로 꼬리 파일이 비워지기 전에 중단되어도 남은 레코드는 다음 시작 때 버려짐
+        tailChannel.truncate(0);
+        tailChannel.position(0);
+    }
+
+    /**
+     * 파일의 지정 위치에서 버퍼를 가득 채워 읽는 메서드
+     *
+     * @param channel  파일
+     * @param buffer   채울 버퍼
+     * @param position 읽기 시작할 위치
+     * @throws IOException 읽는 데 실패했거나 파일이 끝난 경우
+     */
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("세션 기록 파일이 예상보다 짧습니다.");
+            }
+            position += read;
+        }
+        buffer.flip();
+    }
+
+    /**
+     * 부호 있는 정수를 작은 절댓값일수록 작은 부호 없는 정수로 바꾸는 메서드
+     *
+     * @param value 값
+     * @return zigzag 인코딩된 값
+     */
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    /**
+     * zigzag 인코딩된 값을 원래 값으로 되돌리는 메서드
+     *
+     * @param value zigzag 인코딩된 값
+     * @return 원래 값
+     */
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * 부호 없는 정수를 7비트씩 가변 길이로 기록하는 메서드
+     *
+     * @param out   기록할 스트림
+     * @param value 값
+     */
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    /**
+     * 가변 길이로 기록된 부호 없는 정수를 읽는 메서드
+     *
+     * @param in 읽을 버퍼
+     * @return 값
+     */
+    private static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+    }
+
+    /**
+     * 기록된 구간 하나를 나타내는 클래스
+     */
+    public static final class Session {
+        private final long taskId; // 작업 고유 번호, 작업이 없으면 NO_TASK
+        private final long start; // 시작 시각 (epoch 초)
+        private final long end; // 종료 시각 (epoch 초)
+        private final boolean rest; // 휴식 구간 여부
+
+
+        /**
+         * Session의 생성자
+         */
+        private Session(long taskId, long start, long end, boolean rest) {
+            this.taskId = taskId;
+            this.start = start;
+            this.end = end;
+            this.rest = rest;
+        }
+
+        /**
+         * 작업 고유 번호를 반환하는 메서드
+         *
+         * @return 작업 고유 번호, 작업이 없으면 NO_TASK
+         */
+        public long getTaskId() {
+            return taskId;
+        }
+
+        /**
+         * 시작 시각을 반환하는 메서드
+         *
+         * @return 시작 시각 (epoch 초)
+         */
+        public long getStart() {
+            return start;
+        }
+
+        /**
+         * 종료 시각을 반환하는 메서드
+         *
+         * @return 종료 시각 (epoch 초)
+         */
+        public long getEnd() {
+            return end;
+        }
+
+        /**
+         * 휴식 구간인지 확인하는 메서드
+         *
+         * @return 휴식 구간이면 true
+         */
+        public boolean isRest() {
+            return rest;
+        }
+    }
+
+    /**
+     * 봉인된 세그먼트의 위치와 범위를 담는 클래스
+     */
+    private static final class SegmentInfo {
+        private final long offset; // 본문 시작 위치
+        private final int length; // 본문 길이
+        private final int count; // 구간 수
+        private final long minStart; // 가장 이른 시작 시각
+        private final long maxEnd; // 가장 늦은 종료 시각
+
+        private SegmentInfo(long offset, int length, int count, long minStart, long maxEnd) {
+            this.offset = offset;
+            this.length = length;
+            this.count = count;
+            this.minStart = minStart;
+            this.maxEnd = maxEnd;
+        }
+    }
+
+    /**
+     * 세그먼트 본문의 구간을 차례로 푸는 클래스
+     */
+    private static final class SegmentDecoder {
+        private final ByteBuffer body; // 세그먼트 본문
+        private int remaining; // 남은 구간 수
+        private long previousStart; // 앞 구간의 시작 시각
+        private long previousTaskId; // 앞 구간의 작업 번호
+
+        private SegmentDecoder(ByteBuffer body, int count) {
+            this.body = body;
+            this.body.position(SEGMENT_HEADER_BYTES);
+            this.remaining = count;
+        }
+
+        private boolean hasNext() {
+            return remaining > 0;
+        }
+
+        private Session next() {
+            remaining--;
+            long head = readVarLong(body);
+            long start = previousStart + unzigzag(head >>> 1);
+            long end = start + readVarLong(body);
+            long taskId = previousTaskId + unzigzag(readVarLong(body));
+            previousStart = start;
+            previousTaskId = taskId;
+            return new Session(taskId, start, end, (head & 1) != 0);
+        }
+    }
+
+    /**
+     * 후보 세그먼트를 하나씩 읽어 조건에 맞는 구간을 반환하고, 마지막으로 봉인되지 않은 구간을 반환하는 반복자
+     */
+    private static final class SessionIterator implements Iterator<Session> {
+        private final FileChannel channel; // 세그먼트 파일
+        private final Iterator<SegmentInfo> segments; // 남은 후보 세그먼트
+        private final Iterator<Session> tail; // 봉인되지 않은 구간
+        private final Predicate<Session> filter; // 반환할 구간의 조건
+        private SegmentDecoder decoder; // 현재 읽는 세그먼트
+        private Session next; // 다음에 반환할 구간
+
+        private SessionIterator(FileChannel channel, List<SegmentInfo> segments, List<Session> tail,
+                                Predicate<Session> filter) {
+            this.channel = channel;
+            this.segments = segments.iterator();
+            this.tail = tail.iterator();
+            this.filter = filter;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                Session candidate;
+                if (decoder != null && decoder.hasNext()) {
+                    candidate = decoder.next();
+                } else if (segments.hasNext()) {
+                    decoder = readSegment(segments.next());
+                    continue;
+                } else if (tail.hasNext()) {
+                    candidate = tail.next();
+                } else {
+                    return false;
+                }
+                if (filter.test(candidate)) {
+                    next = candidate;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public Session next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Session session = next;
+            next = null;
+            return session;
+        }
+
+        /**
+         * 세그먼트 본문을 파일에서 읽는 메서드
+         *
+         * @param segment 읽을 세그먼트
+         * @return 세그먼트의 구간을 푸는 객체
+         */
+        private SegmentDecoder readSegment(SegmentInfo segment) {
+            ByteBuffer body = ByteBuffer.allocate(segment.length);
+            try {
+                readFully(channel, body, segment.offset);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+            return new SegmentDecoder(body, segment.count);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.todo_timer;
+
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 시작 단계별 시간과 첫 프레임까지의 시간을 재는 클래스
+ * 모든 시간은 프로세스가 시작된 시각부터 잰 밀리초이며, 첫 프레임과 미리 불러오기가 모두 끝나면
+ * 표준 출력과 작업 공간 폴더의 startup.log에 한 줄로 남겨 실행마다 비교할 수 있게 함
+ *
+ * 로그 형식: [기록 시각] 단계=밀리초 단계=밀리초 ...
+ */
+public final class StartupMetrics {
+    private static final String LOG_FILE = "startup.log"; // 시작 시간 로그 파일 이름
+    static final String FIRST_FRAME = "first-frame"; // 첫 프레임 단계 이름
+    static final String PRELOAD = "preload"; // 미리 불러오기 단계 이름
+
+    // 프로세스 시작 시각, 알 수 없으면 이 클래스를 불러온 시각
+    private static final long launchMillis = ProcessHandle.current().info().startInstant()
+            .map(Instant::toEpochMilli).orElse(System.currentTimeMillis());
+    private static final Map<String, Long> phases = new LinkedHashMap<>(); // 단계 이름 → 프로세스 시작부터 걸린 시간
+    private static boolean reported; // 이미 기록했는지 여부
+
+
+    /**
+     * StartupMetrics의 생성자
+     */
+    private StartupMetrics() {
+    }
+
+    /**
+     * 단계가 끝난 시각을 기록하는 메서드
+     * JavaFX 애플리케이션 스레드에서 호출
+     *
+     * @param phase 단계 이름
+     */
+    public static void mark(String phase) {
+        phases.putIfAbsent(phase, System.currentTimeMillis() - launchMillis);
+    }
+
+    /**
+     * 장면이 처음 그려질 때 첫 프레임 시각을 기록하고 콜백을 호출하도록 등록하는 메서드
+     * 창을 띄운 직후에 호출
+     *
+     * @param scene        첫 화면의 장면
+     * @param directory    로그를 남길 작업 공간 폴더 경로
+     * @param onFirstFrame 첫 프레임이 그려진 뒤 JavaFX 애플리케이션 스레드에서 호출할 콜백
+     */
+    public static void watchFirstFrame(Scene scene, Path directory, Runnable onFirstFrame) {
+        Runnable listener = new Runnable() {
+            @Override
+            public void run() {
+                if (phases.containsKey(FIRST_FRAME)) {
+                    return;
+                }
+                mark(FIRST_FRAME);
+                // 펄스 리스너 목록을 도는 중에는 뺄 수 없으므로 다음 차례에 제거하고, 콜백도 펄스가 끝난 뒤에 호출
+                Platform.runLater(() -> {
+                    scene.removePostLayoutPulseListener(this);
+                    onFirstFrame.run();
+                });
+                report(directory);
+            }
+        };
+        scene.addPostLayoutPulseListener(listener);
+    }
+
+    /**
+     * 첫 프레임과 미리 불러오기가 모두 끝났으면 단계별 시간을 한 줄로 남기는 메서드
+     * 둘 중 나중에 끝난 쪽에서 한 번만 기록
+     *
+     * @param directory 로그를 남길 작업 공간 폴더 경로
+     */
+    public static void report(Path directory) {
+        if (reported || !phases.containsKey(FIRST_FRAME) || !phases.containsKey(PRELOAD)) {
+            return;
+        }
+        reported = true;
+
+        StringBuilder line = new StringBuilder();
+        line.append('[').append(LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS)).append(']');
+        for (Map.Entry<String, Long> phase : phases.entrySet()) {
+            line.append(' ').append(phase.getKey()).append('=').append(phase.getValue());
+        }
+        System.out.println("시작 시간(ms) " + line);
+        try {
+            Files.writeString(directory.resolve(LOG_FILE), line + System.lineSeparator(), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,467 @@
+package com.example.todo_timer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 세션 기록을 일별, 주별, 프로젝트별, 작업별 합계로 미리 모아 두는 통계 클래스
+ * 구간이 기록되거나 작업이 완료/복원될 때마다 해당 합계만 바꾸므로, 통계 화면은 기록 양과 관계없이 합계만 읽음
+ * 일별과 작업별 시간 합계는 종료할 때 파일로 저장하고, 다음 시작 때는 저장 이후에 기록된 구간만 세션 기록에서 읽어 더함
+ * 완료한 작업 수는 파일에 저장하지 않고 시작할 때 작업 공간의 완료한 날에서 다시 세므로,
+ * 비정상 종료로 합계 파일이 오래되어도 저널에 남은 완료와 복원이 그대로 반영됨
+ * 주별과 프로젝트별 합계는 불러온 일별, 작업별 합계에서 다시 계산
+ *
+ * 파일 형식: [버전(int)][반영한 구간 수(long)][일 수(int)][일별 합계...][작업 수(int)][작업별 합계...]
+ */
+public class StatisticsRollups implements WorkspaceListener {
+    private static final StatisticsRollups instance = new StatisticsRollups(); // 애플리케이션 전체에서 공유하는 통계
+
+    private static final String ROLLUP_FILE = "statistics.rollup"; // 합계 파일 이름
+    private static final int VERSION = 2; // 합계 파일 형식 버전
+
+    private final Map<Long, Totals> days = new HashMap<>(); // epoch day → 일별 합계
+    private final Map<Long, Totals> weeks = new HashMap<>(); // 주의 월요일 epoch day → 주별 합계
+    private final Map<Long, Totals> tasks = new HashMap<>(); // 작업 고유 번호 → 작업별 합계
+    private final Map<ProjectManager, Totals> projects = new HashMap<>(); // 프로젝트별 합계
+    private final Map<Task, Long> completionDays = new HashMap<>(); // 완료한 날을 아는 완료한 작업 → 완료한 날
+    private final Consumer<SessionLedger.Session> sessionListener = this::sessionRecorded; // 세션 기록에 등록할 리스너
+    private long appliedSessions; // 합계에 반영한 구간 수
+    private Path rollupFile; // 합계 파일 경로
+
+
+    /**
+     * StatisticsRollups의 생성자
+     */
+    private StatisticsRollups() {
+    }
+
+    /**
+     * StatisticsRollups 인스턴스를 반환하는 메서드
+     *
+     * @return StatisticsRollups 인스턴스
+     */
+    public static StatisticsRollups getInstance() {
+        return instance;
+    }
+
+    /**
+     * 저장된 합계를 불러오고, 그 이후에 기록된 구간과 작업 공간의 완료한 작업을 더한 뒤 변경 사항을 받기 시작하는 메서드
+     * 작업 공간을 불러오고 세션 기록을 연 다음에 호출
+     *
+     * @param directory 작업 공간 폴더 경로
+     */
+    public synchronized void open(Path directory) {
+        rollupFile = directory.resolve(ROLLUP_FILE);
+        clear();
+        if (Files.exists(rollupFile)) {
+            try (InputStream in = Files.newInputStream(rollupFile)) {
+                load(new DataInputStream(new BufferedInputStream(in)));
+            } catch (IOException e) {
+                // 읽을 수 없는 합계 파일은 버리고 세션 기록 전체에서 다시 계산
+                e.printStackTrace();
+                clear();
+            }
+        }
+        countCompletedTasks();
+        rebuildDerived();
+        SessionLedger.getInstance().addSessionListener(appliedSessions, sessionListener);
+        TaskRepository.getInstance().addWorkspaceListener(this);
+    }
+
+    /**
+     * 합계를 파일로 저장하는 메서드
+     * 애플리케이션이 종료될 때 호출
+     */
+    public synchronized void close() {
+        if (rollupFile == null) {
+            return;
+        }
+        TaskRepository.getInstance().removeWorkspaceListener(this);
+        SessionLedger.getInstance().removeSessionListener(sessionListener);
+        Path tmpFile = rollupFile.resolveSibling(ROLLUP_FILE + ".tmp");
+        try (OutputStream out = Files.newOutputStream(tmpFile)) {
+            DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+            save(data);
+            data.flush();
+        } catch (IOException e) {
+            e.printStackTrace();
+            return;
+        }
+        try {
+            Files.move(tmpFile, rollupFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        rollupFile = null;
+    }
+
+    /**
+     * 날짜의 합계를 반환하는 메서드
+     *
+     * @param date 날짜
+     * @return 일별 합계의 복사본
+     */
+    public synchronized Totals getDay(LocalDate date) {
+        return copyOf(days.get(date.toEpochDay()));
+    }
+
+    /**
+     * 날짜가 속한 주(월요일부터 일요일까지)의 합계를 반환하는 메서드
+     *
+     * @param date 주에 속한 날짜
+     * @return 주별 합계의 복사본
+     */
+    public synchronized Totals getWeek(LocalDate date) {
+        return copyOf(weeks.get(weekOf(date.toEpochDay())));
+    }
+
+    /**
+     * 프로젝트의 합계를 반환하는 메서드
+     * 완료한 작업 수는 프로젝트의 완료 목록 크기
+     *
+     * @param project 프로젝트
+     * @return 프로젝트별 합계의 복사본
+     */
+    public synchronized Totals getProject(ProjectManager project) {
+        Totals totals = copyOf(projects.get(project));
+        totals.completedTasks = project.getCompletedTasks().size();
+        return totals;
+    }
+
+    /**
+     * 작업의 합계를 반환하는 메서드
+     *
+     * @param task 작업
+     * @return 작업별 합계의 복사본
+     */
+    public synchronized Totals getTask(Task task) {
+        Totals totals = copyOf(tasks.get(task.getId()));
+        totals.completedTasks = task.isCompleted() ? 1 : 0;
+        return totals;
+    }
+
+    /**
+     * 세션 기록에 새 구간이 기록되었을 때 합계에 더하는 메서드
+     * 구간은 시작한 날의 합계에 더함
+     *
+     * @param session 기록된 구간
+     */
+    private synchronized void sessionRecorded(SessionLedger.Session session) {
+        appliedSessions++;
+        long day = toEpochDay(session.getStart());
+        addSession(days.computeIfAbsent(day, key -> new Totals()), session);
+        addSession(weeks.computeIfAbsent(weekOf(day), key -> new Totals()), session);
+        if (session.getTaskId() != SessionLedger.NO_TASK) {
+            addSession(tasks.computeIfAbsent(session.getTaskId(), key -> new Totals()), session);
+            Task task = TaskRepository.getInstance().getTask(session.getTaskId());
+            if (task != null) {
+                addSession(projects.computeIfAbsent(task.getProject(), key -> new Totals()), session);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void taskCompleted(Task task) {
+        LocalDate completedOn = task.getCompletedOn();
+        if (completedOn == null) {
+            return;
+        }
+        long day = completedOn.toEpochDay();
+        completionDays.put(task, day);
+        days.computeIfAbsent(day, key -> new Totals()).completedTasks++;
+        weeks.computeIfAbsent(weekOf(day), key -> new Totals()).completedTasks++;
+    }
+
+    @Override
+    public synchronized void taskRestored(Task task) {
+        removeCompletion(task);
+    }
+
+    @Override
+    public synchronized void taskDeleted(Task task) {
+        removeCompletion(task);
+        Totals totals = tasks.remove(task.getId());
+        Totals projectTotals = projects.get(task.getProject());
+        if (totals != null && projectTotals != null) {
+            projectTotals.focusSeconds -= totals.focusSeconds;
+            projectTotals.restSeconds -= totals.restSeconds;
+            projectTotals.focusSessions -= totals.focusSessions;
+        }
+    }
+
+    @Override
+    public synchronized void projectDeleted(ProjectManager project) {
+        projects.remove(project);
+        for (Task task : project.getTasks()) {
+            tasks.remove(task.getId());
+        }
+        for (Task task : project.getCompletedTasks()) {
+            removeCompletion(task);
+            tasks.remove(task.getId());
+        }
+    }
+
+    /**
+     * 작업을 완료한 날의 완료 수를 되돌리는 메서드
+     * 완료한 날을 모르는 작업(완료한 날을 기록하기 전에 완료한 작업)은 세지 않았으므로 그대로 둠
+     *
+     * @param task 복원하거나 삭제한 작업
+     */
+    private void removeCompletion(Task task) {
+        Long day = completionDays.remove(task);
+        if (day != null) {
+            days.get(day).completedTasks--;
+            weeks.get(weekOf(day)).completedTasks--;
+        }
+    }
+
+    /**
+     * 작업 공간의 완료한 작업을 완료한 날별로 세는 메서드
+     * 주별 합계는 rebuildDerived에서 일별 합계로 다시 계산
+     */
+    private void countCompletedTasks() {
+        for (ProjectManager project : TaskRepository.getInstance().getProjects()) {
+            for (Task task : project.getCompletedTasks()) {
+                LocalDate completedOn = task.getCompletedOn();
+                if (completedOn != null) {
+                    long day = completedOn.toEpochDay();
+                    completionDays.put(task, day);
+                    days.computeIfAbsent(day, key -> new Totals()).completedTasks++;
+                }
+            }
+        }
+    }
+
+    /**
+     * 모든 합계를 비우는 메서드
+     */
+    private void clear() {
+        days.clear();
+        weeks.clear();
+        tasks.clear();
+        projects.clear();
+        completionDays.clear();
+        appliedSessions = 0;
+    }
+
+    /**
+     * 일별, 작업별 합계에서 주별, 프로젝트별 합계를 다시 계산하는 메서드
+     */
+    private void rebuildDerived() {
+        weeks.clear();
+        for (Map.Entry<Long, Totals> entry : days.entrySet()) {
+            weeks.computeIfAbsent(weekOf(entry.getKey()), key -> new Totals()).add(entry.getValue());
+        }
+        projects.clear();
+        TaskRepository repository = TaskRepository.getInstance();
+        for (Map.Entry<Long, Totals> entry : tasks.entrySet()) {
+            Task task = repository.getTask(entry.getKey());
+            if (task != null) {
+                projects.computeIfAbsent(task.getProject(), key -> new Totals()).add(entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * 합계 파일을 읽는 메서드
+     *
+     * @param in 읽을 스트림
+     * @throws IOException 읽는 데 실패했거나 형식이 맞지 않는 경우
+     */
+    private void load(DataInputStream in) throws IOException {
+        if (in.readInt() != VERSION) {
+            throw new IOException("지원하지 않는 통계 파일 버전입니다.");
+        }
+        appliedSessions = in.readLong();
+        int dayCount = in.readInt();
+        for (int i = 0; i < dayCount; i++) {
+            days.put(in.readLong(), Totals.read(in));
+        }
+        int taskCount = in.readInt();
+        for (int i = 0; i < taskCount; i++) {
+            tasks.put(in.readLong(), Totals.read(in));
+        }
+    }
+
+    /**
+     * 합계 파일을 기록하는 메서드
+     *
+     * @param out 기록할 스트림
+     * @throws IOException 기록에 실패한 경우
+     */
+    private void save(DataOutputStream out) throws IOException {
+        out.writeInt(VERSION);
+        out.writeLong(appliedSessions);
+        out.writeInt(days.size());
+        for (Map.Entry<Long, Totals> entry : days.entrySet()) {
+            out.writeLong(entry.getKey());
+            entry.getValue().write(out);
+        }
+        out.writeInt(tasks.size());
+        for (Map.Entry<Long, Totals> entry : tasks.entrySet()) {
+            out.writeLong(entry.getKey());
+            entry.getValue().write(out);
+        }
+    }
+
+    /**
+     * 구간 하나를 합계에 더하는 메서드
+     *
+     * @param totals  합계
+     * @param session 구간
+     */
+    private static void addSession(Totals totals, SessionLedger.Session session) {
+        long seconds = session.getEnd() - session.getStart();
+        if (session.isRest()) {
+            totals.restSeconds += seconds;
+        } else {
+            totals.focusSeconds += seconds;
+            totals.focusSessions++;
+        }
+    }
+
+    /**
+     * epoch 초를 시스템 시간대의 epoch day로 바꾸는 메서드
+     *
+     * @param epochSecond epoch 초
+     * @return epoch day
+     */
+    private static long toEpochDay(long epochSecond) {
+        return LocalDate.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneId.systemDefault()).toEpochDay();
+    }
+
+    /**
+     * 날짜가 속한 주의 월요일을 반환하는 메서드
+     *
+     * @param epochDay 날짜 (epoch day)
+     * @return 주의 월요일 (epoch day)
+     */
+    private static long weekOf(long epochDay) {
+        // 1970-01-01은 목요일이므로 3일을 더해 월요일을 0으로 맞춤
+        return epochDay - Math.floorMod(epochDay + 3, 7);
+    }
+
+    /**
+     * 합계의 복사본을 만드는 메서드
+     *
+     * @param totals 합계, 없으면 null
+     * @return 복사본, 합계가 없으면 빈 합계
+     */
+    private static Totals copyOf(Totals totals) {
+        Totals copy = new Totals();
+        if (totals != null) {
+            copy.add(totals);
+        }
+        return copy;
+    }
+
+    /**
+     * 집중 시간, 휴식 시간, 집중 구간 수, 완료한 작업 수를 담는 합계 클래스
+     */
+    public static final class Totals {
+        private long focusSeconds; // 집중한 시간 (초)
+        private long restSeconds; // 휴식한 시간 (초)
+        private int focusSessions; // 집중 구간 수
+        private int completedTasks; // 완료한 작업 수
+
+
+        /**
+         * 집중한 시간을 반환하는 메서드
+         *
+         * @return 집중한 시간 (초)
+         */
+        public long getFocusSeconds() {
+            return focusSeconds;
+        }
+
+        /**
+         * 휴식한 시간을 반환하는 메서드
+         *
+         * @return 휴식한 시간 (초)
+         */
+        public long getRestSeconds() {
+            return restSeconds;
+        }
+
+        /**
+         * 집중 구간 수를 반환하는 메서드
+         *
+         * @return 집중 구간 수
+         */
+        public int getFocusSessions() {
+            return focusSessions;
+        }
+
+        /**
+         * 완료한 작업 수를 반환하는 메서드
+         *
+         * @return 완료한 작업 수
+         */
+        public int getCompletedTasks() {
+            return completedTasks;
+        }
+
+        /**
+         * 집중 구간의 평균 길이를 반환하는 메서드
+         *
+         * @return 평균 길이 (초), 집중 구간이 없으면 0
+         */
+        public long getAverageFocusSeconds() {
+            return focusSessions > 0 ? focusSeconds / focusSessions : 0;
+        }
+
+        /**
+         * 다른 합계를 더하는 메서드
+         *
+         * @param other 더할 합계
+         */
+        private void add(Totals other) {
+            focusSeconds += other.focusSeconds;
+            restSeconds += other.restSeconds;
+            focusSessions += other.focusSessions;
+            completedTasks += other.completedTasks;
+        }
+
+        /**
+         * 시간 합계를 스트림에 기록하는 메서드
+         * 완료한 작업 수는 작업 공간에서 다시 세므로 기록하지 않음
+         *
+         * @param out 기록할 스트림
+         * @throws IOException 기록에 실패한 경우
+         */
+        private void write(DataOutputStream out) throws IOException {
+            out.writeLong(focusSeconds);
+            out.writeLong(restSeconds);
+            out.writeInt(focusSessions);
+        }
+
+        /**
+         * 스트림에서 시간 합계를 읽는 메서드
+         *
+         * @param in 읽을 스트림
+         * @return 합계
+         * @throws IOException 읽는 데 실패한 경우
+         */
+        private static Totals read(DataInputStream in) throws IOException {
+            Totals totals = new Totals();
+            totals.focusSeconds = in.readLong();
+            totals.restSeconds = in.readLong();
+            totals.focusSessions = in.readInt();
+            return totals;
+        }
+    }
+}
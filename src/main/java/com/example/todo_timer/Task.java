@@ -1,19 +1,27 @@
 package com.example.todo_timer;
 
+import java.time.LocalDate;
+
 public class Task {
-    private String projectName; // 프로젝트 이름
+    private final long id; // 작업의 고유 번호, 이름이 바뀌어도 변하지 않음
+    private final ProjectManager project; // 작업이 속한 프로젝트, 프로젝트 이름은 여기서 읽음
     private String name; // 작업 이름
+    private boolean completed; // 완료 여부
+    private LocalDate completedOn; // 완료한 날, 완료하지 않았거나 알 수 없으면 null
 
 
     /**
      * Task 클래스의 생성자
+     * 고유 번호는 TaskRepository에서 발급
      *
+     * @param id 작업의 고유 번호
      * @param name 작업 이름
-     * @param projectName 작업이 속한 프로젝트 이름
+     * @param project 작업이 속한 프로젝트
      */
-    public Task(String name, String projectName) {
+    Task(long id, String name, ProjectManager project) {
+        this.id = id;
         this.name = name;
-        this.projectName = projectName;
+        this.project = project;
     }
 
     /**
@@ -23,10 +31,19 @@ public class Task {
      */
     @Override
     public String toString() {
-        return "[" + projectName + "] - " + name;
+        return "[" + project.getName() + "] - " + name;
     }
 
 
+    /**
+     * 작업의 고유 번호를 반환하는 메서드
+     *
+     * @return 작업의 고유 번호
+     */
+    public long getId() {
+        return id;
+    }
+
     /**
      * 작업의 이름을 반환하는 메서드
      *
@@ -36,21 +53,61 @@ public class Task {
         return name;
     }
 
+    /**
+     * 작업의 이름을 설정하는 메서드
+     * 이름 인덱스를 함께 갱신해야 하므로 ProjectManager를 통해서만 호출
+     *
+     * @param name 새로운 작업 이름
+     */
+    void setName(String name) {
+        this.name = name;
+    }
+
+    /**
+     * 작업이 속한 프로젝트를 반환하는 메서드
+     *
+     * @return 작업이 속한 프로젝트
+     */
+    public ProjectManager getProject() {
+        return project;
+    }
+
     /**
      * 작업이 속한 프로젝트의 이름을 반환하는 메서드
+     * 프로젝트 이름이 바뀌면 별도의 갱신 없이 바뀐 이름이 반환됨
      *
      * @return 프로젝트의 이름
      */
     public String getProjectName() {
-        return projectName;
+        return project.getName();
+    }
+
+    /**
+     * 작업의 완료 여부를 반환하는 메서드
+     *
+     * @return 완료한 작업이면 true
+     */
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    /**
+     * 작업을 완료한 날을 반환하는 메서드
+     *
+     * @return 완료한 날, 완료하지 않았거나 완료한 날을 기록하기 전에 완료한 작업이면 null
+     */
+    public LocalDate getCompletedOn() {
+        return completedOn;
     }
 
     /**
-     * 프로젝트 이름을 설정하는 메서드
+     * 작업의 완료 여부와 완료한 날을 설정하는 메서드
      *
-     * @param projectName 새로운 프로젝트 이름
+     * @param completed   완료 여부
+     * @param completedOn 완료한 날, 완료하지 않았거나 알 수 없으면 null
      */
-    public void setProjectName(String projectName) {
-        this.projectName = projectName;
+    void setCompleted(boolean completed, LocalDate completedOn) {
+        this.completed = completed;
+        this.completedOn = completed ? completedOn : null;
     }
-}
\ No newline at end of file
+}
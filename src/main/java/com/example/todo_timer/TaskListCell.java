@@ -0,0 +1,42 @@
+package com.example.todo_timer;
+
+import javafx.scene.control.ListCell;
+
+import java.time.LocalDate;
+
+/**
+ * 작업 목록의 한 줄을 그리는 셀 클래스
+ * ListView는 화면에 보이는 셀만 만들어 재사용하므로 작업 이름과 마감일은 보이는 항목에 대해서만 포맷됨
+ */
+public class TaskListCell extends ListCell<Task> {
+    private final TaskMetadataStore metadataStore = TaskMetadataStore.getInstance(); // 마감일을 읽을 저장소
+
+
+    /**
+     * 셀에 표시할 작업이 바뀔 때 호출되는 메서드
+     *
+     * @param task  표시할 작업
+     * @param empty 빈 셀 여부
+     */
+    @Override
+    protected void updateItem(Task task, boolean empty) {
+        super.updateItem(task, empty);
+        if (empty || task == null) {
+            setText(null);
+            return;
+        }
+        setText(format(task, metadataStore.getDueDate(task)));
+    }
+
+    /**
+     * 작업 한 줄에 표시할 문자열을 만드는 메서드
+     * 작업 이름에 마감일 정보를 포함하여 표시
+     *
+     * @param task    작업
+     * @param dueDate 마감일, 없으면 null
+     * @return 표시할 문자열
+     */
+    static String format(Task task, LocalDate dueDate) {
+        return dueDate != null ? task.getName() + " [" + dueDate + "]" : task.getName();
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.todo_timer;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 작업의 마감일과 메모를 저장하는 클래스
+ * Task 객체 자체를 키로 사용하므로 조회할 때 "프로젝트 - 작업" 문자열 키를 만들 필요가 없고,
+ * 프로젝트나 작업의 이름이 바뀌어도 저장된 값을 옮길 필요가 없음
+ */
+public class TaskMetadataStore {
+    private static final TaskMetadataStore instance = new TaskMetadataStore(); // 애플리케이션 전체에서 공유하는 저장소
+
+    // 각 작업에 대한 마감일을 저장하는 Map, 키는 작업, 값은 해당 작업의 마감일
+    private final Map<Task, LocalDate> dueDates = new HashMap<>();
+
+    // 작업에 대한 메모를 압축해서 힙 밖에 저장하는 저장소
+    private final MemoStore memoStore = new MemoStore();
+
+    // 진행 중인 작업을 마감일 순서로 정렬해 두는 인덱스
+    private final DeadlineIndex deadlineIndex = new DeadlineIndex();
+
+
+    /**
+     * TaskMetadataStore의 생성자
+     */
+    private TaskMetadataStore() {
+    }
+
+    /**
+     * 공유 저장소를 반환하는 메서드
+     *
+     * @return TaskMetadataStore 인스턴스
+     */
+    public static TaskMetadataStore getInstance() {
+        return instance;
+    }
+
+    /**
+     * 지정된 작업의 마감일을 반환하는 메서드
+     *
+     * @param task 작업
+     * @return 해당 작업의 마감일, 저장된 마감일이 없을 경우 null 반환
+     */
+    public LocalDate getDueDate(Task task) {
+        return dueDates.get(task);
+    }
+
+    /**
+     * 지정된 작업의 마감일을 설정하는 메서드
+     *
+     * @param task    작업
+     * @param dueDate 새로운 마감일, null이면 마감일을 제거
+     */
+    public void setDueDate(Task task, LocalDate dueDate) {
+        LocalDate oldDueDate = dueDate == null ? dueDates.remove(task) : dueDates.put(task, dueDate);
+        if (!task.isCompleted()) {
+            if (oldDueDate != null) {
+                deadlineIndex.remove(task, oldDueDate);
+            }
+            if (dueDate != null) {
+                deadlineIndex.add(task, dueDate);
+            }
+        }
+        // 작업 목록 화면은 이 이벤트를 받아 화면에 보이는 셀만 다시 그림
+        TaskRepository.getInstance().fireEvent(listener -> listener.dueDateChanged(task, dueDate));
+    }
+
+    /**
+     * 저장된 작업 공간을 불러올 때 마감일을 넣는 메서드
+     * 불러오는 중에는 화면이나 리스너에게 알릴 필요가 없으므로 인덱스만 갱신
+     *
+     * @param task    작업
+     * @param dueDate 마감일
+     */
+    void loadDueDate(Task task, LocalDate dueDate) {
+        dueDates.put(task, dueDate);
+        if (!task.isCompleted()) {
+            deadlineIndex.add(task, dueDate);
+        }
+    }
+
+    /**
+     * 마감일 인덱스를 반환하는 메서드
+     *
+     * @return 진행 중인 작업의 마감일 인덱스
+     */
+    public DeadlineIndex getDeadlineIndex() {
+        return deadlineIndex;
+    }
+
+    /**
+     * 지정된 작업의 메모를 반환하는 메서드
+     *
+     * @param task 작업
+     * @return 해당 작업의 메모, 저장된 메모가 없을 경우 빈 문자열 반환
+     */
+    public String getMemo(Task task) {
+        // 메모는 관리 화면에서 열 때만 메모 파일에서 읽음
+        return memoStore.get(task);
+    }
+
+    /**
+     * 지정된 작업의 메모를 설정하는 메서드
+     *
+     * @param task 작업
+     * @param memo 작업 메모, 비어 있으면 메모를 제거
+     */
+    public void setMemo(Task task, String memo) {
+        memoStore.put(task, memo);
+        String newMemo = memo == null ? "" : memo;
+        TaskRepository.getInstance().fireEvent(listener -> listener.memoChanged(task, newMemo));
+    }
+
+    /**
+     * 삭제된 작업의 마감일과 메모를 제거하는 메서드
+     *
+     * @param task 삭제된 작업
+     */
+    void remove(Task task) {
+        LocalDate dueDate = dueDates.remove(task);
+        if (dueDate != null) {
+            deadlineIndex.remove(task, dueDate);
+        }
+        memoStore.remove(task);
+    }
+
+    /**
+     * 메모 저장소를 반환하는 메서드
+     *
+     * @return 메모 저장소
+     */
+    MemoStore getMemoStore() {
+        return memoStore;
+    }
+
+    /**
+     * 작업이 완료되었을 때 마감일 인덱스에서 빼는 메서드
+     *
+     * @param task 완료한 작업
+     */
+    void taskCompleted(Task task) {
+        LocalDate dueDate = dueDates.get(task);
+        if (dueDate != null) {
+            deadlineIndex.remove(task, dueDate);
+        }
+    }
+
+    /**
+     * 작업이 복구되었을 때 마감일 인덱스에 다시 넣는 메서드
+     *
+     * @param task 복구한 작업
+     */
+    void taskRestored(Task task) {
+        LocalDate dueDate = dueDates.get(task);
+        if (dueDate != null) {
+            deadlineIndex.add(task, dueDate);
+        }
+    }
+}
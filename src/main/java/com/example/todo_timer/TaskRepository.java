@@ -0,0 +1,272 @@
+package com.example.todo_timer;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 모든 프로젝트와 작업을 관리하는 저장소 클래스
+ * 작업은 고유 번호로, 프로젝트는 이름으로 해시 인덱스를 유지하여
+ * 추가, 이름 변경, 완료, 복구, 삭제를 전체 목록을 훑지 않고 상수 시간에 처리
+ * 프로젝트별 작업 이름 인덱스는 각 ProjectManager가 가지고 있음
+ */
+public class TaskRepository {
+    private static final TaskRepository instance = new TaskRepository(); // 애플리케이션 전체에서 공유하는 저장소
+
+    private final Map<Long, Task> tasksById = new HashMap<>(); // 고유 번호 → 작업
+    private final Map<String, ProjectManager> projectsByName = new HashMap<>(); // 프로젝트 이름 → 프로젝트
+    private final ObservableList<ProjectManager> projects = FXCollections.observableArrayList(); // 화면에 표시할 프로젝트 목록
+
+    private long nextTaskId = 1; // 다음에 발급할 작업 고유 번호
+
+    private final List<WorkspaceListener> listeners = new ArrayList<>(); // 변경 사항을 전달받는 리스너 목록
+
+
+    /**
+     * TaskRepository의 생성자
+     */
+    private TaskRepository() {
+    }
+
+    /**
+     * 공유 저장소를 반환하는 메서드
+     *
+     * @return TaskRepository 인스턴스
+     */
+    public static TaskRepository getInstance() {
+        return instance;
+    }
+
+    /**
+     * 새로운 프로젝트를 추가하는 메서드
+     *
+     * @param name 프로젝트 이름
+     * @return 추가된 프로젝트, 같은 이름의 프로젝트가 이미 있으면 null 반환
+     */
+    public ProjectManager addProject(String name) {
+        if (projectsByName.containsKey(name)) {
+            return null;
+        }
+        ProjectManager project = new ProjectManager(name);
+        projectsByName.put(name, project);
+        projects.add(project);
+        fireEvent(listener -> listener.projectAdded(project));
+        return project;
+    }
+
+    /**
+     * 이름으로 프로젝트를 찾는 메서드
+     *
+     * @param name 프로젝트 이름
+     * @return 해당 프로젝트, 없으면 null 반환
+     */
+    public ProjectManager getProject(String name) {
+        return projectsByName.get(name);
+    }
+
+    /**
+     * 입력된 프로젝트 이름이 이미 존재하는지 검사하는 메서드
+     *
+     * @param name 검사할 프로젝트 이름
+     * @return 중복 여부 (true: 중복됨, false: 중복되지 않음)
+     */
+    public boolean containsProject(String name) {
+        return projectsByName.containsKey(name);
+    }
+
+    /**
+     * 프로젝트가 아직 저장소에 있는지 검사하는 메서드
+     * 다이얼로그가 열려 있는 동안 삭제된 프로젝트를 고치지 않도록 콜백에서 확인
+     *
+     * @param project 검사할 프로젝트
+     * @return 저장소에 있으면 true
+     */
+    public boolean containsProject(ProjectManager project) {
+        return projectsByName.get(project.getName()) == project;
+    }
+
+    /**
+     * 작업이 아직 저장소에 있는지 검사하는 메서드
+     *
+     * @param task 검사할 작업
+     * @return 저장소에 있으면 true
+     */
+    public boolean containsTask(Task task) {
+        return tasksById.get(task.getId()) == task;
+    }
+
+    /**
+     * 프로젝트 목록을 반환하는 메서드
+     *
+     * @return 프로젝트 목록
+     */
+    public ObservableList<ProjectManager> getProjects() {
+        return projects;
+    }
+
+    /**
+     * 프로젝트를 삭제하는 메서드
+     * 해당 프로젝트에 속한 작업만 고유 번호 인덱스에서 제거
+     *
+     * @param project 삭제할 프로젝트
+     */
+    public void deleteProject(ProjectManager project) {
+        if (!projectsByName.remove(project.getName(), project)) {
+            return;
+        }
+        for (Task task : project.getTasks()) {
+            removeTask(task);
+        }
+        for (Task task : project.getCompletedTasks()) {
+            removeTask(task);
+        }
+        projects.remove(project);
+        fireEvent(listener -> listener.projectDeleted(project));
+    }
+
+    /**
+     * 고유 번호로 작업을 찾는 메서드
+     *
+     * @param id 작업의 고유 번호
+     * @return 해당 작업, 없으면 null 반환
+     */
+    public Task getTask(long id) {
+        return tasksById.get(id);
+    }
+
+    /**
+     * 작업이 속한 프로젝트를 찾는 메서드
+     * 작업이 프로젝트를 직접 참조하므로 이름으로 다시 찾지 않음
+     *
+     * @param task 작업
+     * @return 작업이 속한 프로젝트
+     */
+    public ProjectManager getProjectOf(Task task) {
+        return task.getProject();
+    }
+
+    /**
+     * 저장된 작업의 수를 반환하는 메서드
+     *
+     * @return 완료한 작업을 포함한 전체 작업 수
+     */
+    public int getTaskCount() {
+        return tasksById.size();
+    }
+
+    /**
+     * 모든 프로젝트의 진행 중인 작업을 반환하는 메서드
+     * 타이머 화면의 작업 선택 상자에 사용
+     *
+     * @return 진행 중인 작업 목록
+     */
+    public List<Task> getActiveTasks() {
+        List<Task> activeTasks = new ArrayList<>();
+        for (ProjectManager project : projects) {
+            activeTasks.addAll(project.getTasks());
+        }
+        return activeTasks;
+    }
+
+    /**
+     * 변경 사항을 전달받을 리스너를 등록하는 메서드
+     *
+     * @param listener 등록할 리스너
+     */
+    public void addWorkspaceListener(WorkspaceListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 등록된 리스너를 제거하는 메서드
+     *
+     * @param listener 제거할 리스너
+     */
+    public void removeWorkspaceListener(WorkspaceListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * 등록된 모든 리스너에게 변경 사항을 전달하는 메서드
+     *
+     * @param event 각 리스너에 대해 실행할 호출
+     */
+    void fireEvent(Consumer<WorkspaceListener> event) {
+        for (WorkspaceListener listener : listeners) {
+            event.accept(listener);
+        }
+    }
+
+    /**
+     * 새 작업을 만들고 고유 번호 인덱스에 등록하는 메서드
+     *
+     * @param name        작업 이름
+     * @param project     작업이 속한 프로젝트
+     * @return 새로 만든 작업
+     */
+    Task createTask(String name, ProjectManager project) {
+        return createTask(nextTaskId, name, project);
+    }
+
+    /**
+     * 지정된 고유 번호로 작업을 만들고 인덱스에 등록하는 메서드
+     * 저장된 작업 공간을 불러올 때 기존 고유 번호를 그대로 사용하기 위해 사용
+     *
+     * @param id          작업의 고유 번호
+     * @param name        작업 이름
+     * @param project     작업이 속한 프로젝트
+     * @return 새로 만든 작업
+     */
+    Task createTask(long id, String name, ProjectManager project) {
+        Task task = new Task(id, name, project);
+        tasksById.put(id, task);
+        nextTaskId = Math.max(nextTaskId, id + 1);
+        return task;
+    }
+
+    /**
+     * 다음에 발급할 작업 고유 번호를 반환하는 메서드
+     *
+     * @return 다음 작업 고유 번호
+     */
+    long getNextTaskId() {
+        return nextTaskId;
+    }
+
+    /**
+     * 다음에 발급할 작업 고유 번호를 설정하는 메서드
+     * 삭제된 작업의 번호가 다시 발급되지 않도록 저장된 값을 복원할 때 사용
+     *
+     * @param nextTaskId 다음 작업 고유 번호
+     */
+    void setNextTaskId(long nextTaskId) {
+        this.nextTaskId = Math.max(this.nextTaskId, nextTaskId);
+    }
+
+    /**
+     * 작업을 고유 번호 인덱스에서 제거하고 마감일과 메모도 함께 제거하는 메서드
+     *
+     * @param task 제거할 작업
+     */
+    void removeTask(Task task) {
+        tasksById.remove(task.getId());
+        TaskMetadataStore.getInstance().remove(task);
+    }
+
+    /**
+     * 프로젝트 이름이 바뀌었을 때 이름 인덱스를 갱신하는 메서드
+     *
+     * @param project 이름이 바뀐 프로젝트
+     * @param oldName 이전 프로젝트 이름
+     */
+    void reindexProject(ProjectManager project, String oldName) {
+        if (projectsByName.remove(oldName, project)) {
+            projectsByName.put(project.getName(), project);
+        }
+    }
+}
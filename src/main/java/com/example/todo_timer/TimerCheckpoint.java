@@ -0,0 +1,281 @@
+package com.example.todo_timer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * 타이머 상태를 파일에 남겨 두었다가 다시 시작할 때 되돌리는 클래스
+ * 틱마다 기록하지 않고 시작, 일시정지, 다음 구간 시작처럼 상태가 바뀔 때만 레코드 하나를 덧붙임
+ * 실행 중이던 타이머는 마감 시각을 실제 시각으로 남기므로, 꺼져 있던 시간도 지난 것으로 계산해서 이어서 진행하고,
+ * 꺼져 있는 동안 마감 시각이 지났으면 그 구간을 마감 시각까지 실행된 것으로 세션 기록에 남기고 정지
+ *
+ * 레코드 형식: [본문 길이(int)][작업 번호(long)][상태(byte)][실행 시작(long)][마감 시각(long)][남은 시간(long)][전체 시간(long)][CRC32(int)]
+ * 상태: 1 = 실행 중, 2 = 휴식 구간 / 시각은 epoch 밀리초, 시간은 나노초
+ */
+public class TimerCheckpoint implements TimerService.StateListener {
+    private static final TimerCheckpoint instance = new TimerCheckpoint(); // 애플리케이션 전체에서 공유하는 체크포인트
+
+    private static final String CHECKPOINT_FILE = "timer.checkpoint"; // 체크포인트 파일 이름
+    private static final int BODY_BYTES = 8 + 1 + 8 + 8 + 8 + 8; // 레코드 본문 길이
+    private static final int FRAME_BYTES = 4 + BODY_BYTES + 4; // 레코드 전체 길이
+    private static final int COMPACT_INTERVAL = 1024; // 이 수만큼 레코드를 덧붙이면 살아 있는 레코드만 남겨 다시 씀
+
+    // 레코드 안의 필드 위치
+    private static final int FLAGS_OFFSET = 4 + 8;
+    private static final int RUN_START_OFFSET = FLAGS_OFFSET + 1;
+    private static final int DEADLINE_OFFSET = RUN_START_OFFSET + 8;
+    private static final int REMAINING_OFFSET = DEADLINE_OFFSET + 8;
+    private static final int DURATION_OFFSET = REMAINING_OFFSET + 8;
+
+    private static final byte RUNNING = 1;
+    private static final byte REST = 2;
+
+    private final Map<Long, byte[]> live = new LinkedHashMap<>(); // 작업 번호 → 마지막 레코드 (처음 상태인 타이머는 없음)
+    private final CRC32 crc = new CRC32();
+    private Path checkpointFile; // 체크포인트 파일 경로
+    private FileChannel channel; // 체크포인트 파일
+    private int appendedSinceCompact; // 마지막으로 다시 쓴 뒤 덧붙인 레코드 수
+    private Task resumedTask; // 재시작 후 이어서 진행 중인 작업
+
+
+    /**
+     * TimerCheckpoint의 생성자
+     */
+    private TimerCheckpoint() {
+    }
+
+    /**
+     * TimerCheckpoint 인스턴스를 반환하는 메서드
+     *
+     * @return TimerCheckpoint 인스턴스
+     */
+    public static TimerCheckpoint getInstance() {
+        return instance;
+    }
+
+    /**
+     * 체크포인트 파일을 읽어 타이머를 되돌리고, 이후의 상태 변경을 받기 시작하는 메서드
+     * 작업 공간과 세션 기록을 연 다음에 호출
+     *
+     * @param directory 작업 공간 폴더 경로
+     * @throws IOException 파일을 읽거나 쓰는 데 실패한 경우
+     */
+    public synchronized void open(Path directory) throws IOException {
+        if (channel != null) {
+            return;
+        }
+        checkpointFile = directory.resolve(CHECKPOINT_FILE);
+        live.clear();
+        if (Files.exists(checkpointFile)) {
+            load();
+        }
+        restoreTimers();
+        compact();
+        TimerService.getInstance().setStateListener(this);
+    }
+
+    /**
+     * 체크포인트 파일을 닫는 메서드
+     * 실행 중인 타이머의 레코드는 그대로 남아 다음 시작 때 이어서 진행됨
+     */
+    public synchronized void close() {
+        if (channel == null) {
+            return;
+        }
+        TimerService.getInstance().setStateListener(null);
+        try {
+            channel.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        channel = null;
+    }
+
+    /**
+     * 재시작 후 이어서 진행 중인 작업을 한 번만 반환하는 메서드
+     * 타이머 화면이 처음 열릴 때 그 작업을 선택하도록 사용
+     *
+     * @return 이어서 진행 중인 작업, 없거나 이미 반환했으면 null
+     */
+    public synchronized Task takeResumedTask() {
+        Task task = resumedTask;
+        resumedTask = null;
+        return task;
+    }
+
+    @Override
+    public synchronized void stateChanged(TimerService.State state) {
+        if (channel == null) {
+            return;
+        }
+        long taskId = state.getTask() != null ? state.getTask().getId() : SessionLedger.NO_TASK;
+        byte[] frame = encode(taskId, state);
+        if (state.isIdle()) {
+            live.remove(taskId);
+        } else {
+            live.put(taskId, frame);
+        }
+        try {
+            if (++appendedSinceCompact >= COMPACT_INTERVAL) {
+                compact();
+            } else {
+                write(channel, frame);
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * 체크포인트 파일의 레코드를 차례로 읽어 작업별 마지막 레코드를 모으는 메서드
+     * 기록 도중 중단되어 길이나 CRC가 맞지 않는 레코드를 만나면 그 앞까지만 읽음 (남은 꼬리는 다시 쓸 때 버려짐)
+     *
+     * @throws IOException 파일을 읽는 데 실패한 경우
+     */
+    private void load() throws IOException {
+        byte[] bytes = Files.readAllBytes(checkpointFile);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.remaining() >= FRAME_BYTES) {
+            int start = buffer.position();
+            if (buffer.getInt() != BODY_BYTES) {
+                break;
+            }
+            crc.reset();
+            crc.update(bytes, start + 4, BODY_BYTES);
+            if (buffer.getInt(start + 4 + BODY_BYTES) != (int) crc.getValue()) {
+                break;
+            }
+            long taskId = buffer.getLong();
+            buffer.position(start + FRAME_BYTES);
+
+            byte[] frame = new byte[FRAME_BYTES];
+            System.arraycopy(bytes, start, frame, 0, FRAME_BYTES);
+            ByteBuffer fields = ByteBuffer.wrap(frame);
+            if (fields.get(FLAGS_OFFSET) == 0 && fields.getLong(REMAINING_OFFSET) == fields.getLong(DURATION_OFFSET)) {
+                live.remove(taskId); // 처음 상태로 돌아간 타이머
+            } else {
+                live.put(taskId, frame);
+            }
+        }
+    }
+
+    /**
+     * 읽어 온 레코드대로 타이머를 되돌리는 메서드
+     * 실행 중이던 타이머는 남은 시간을 실제 시각 기준으로 다시 계산하고,
+     * 마감 시각이 이미 지났거나 되돌릴 작업이 없는 타이머는 그 구간을 세션 기록에 남긴 뒤 정지 상태로 둠
+     */
+    private void restoreTimers() {
+        TimerService timerService = TimerService.getInstance();
+        TaskRepository repository = TaskRepository.getInstance();
+        long nowMillis = System.currentTimeMillis();
+        long latestRunStart = Long.MIN_VALUE;
+
+        Iterator<Map.Entry<Long, byte[]>> entries = live.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<Long, byte[]> entry = entries.next();
+            long taskId = entry.getKey();
+            ByteBuffer frame = ByteBuffer.wrap(entry.getValue());
+            byte flags = frame.get(FLAGS_OFFSET);
+            long runStartMillis = frame.getLong(RUN_START_OFFSET);
+            long deadlineMillis = frame.getLong(DEADLINE_OFFSET);
+            long remainingNanos = frame.getLong(REMAINING_OFFSET);
+            long durationNanos = frame.getLong(DURATION_OFFSET);
+            boolean running = (flags & RUNNING) != 0;
+            boolean rest = (flags & REST) != 0;
+
+            Task task = taskId != SessionLedger.NO_TASK ? repository.getTask(taskId) : null;
+            if (taskId != SessionLedger.NO_TASK && task == null) {
+                entries.remove(); // 꺼져 있는 동안 삭제된 작업
+                continue;
+            }
+            if (!running) {
+                if (task == null) {
+                    entries.remove(); // 작업과 연결되지 않은 타이머는 화면이 닫히면 사라지므로 되돌리지 않음
+                } else {
+                    timerService.restore(timerService.getTimer(task), rest, durationNanos, remainingNanos, false, 0);
+                }
+                continue;
+            }
+
+            long remainingMillis = deadlineMillis - nowMillis;
+            if (task != null && remainingMillis > 0) {
+                timerService.restore(timerService.getTimer(task), rest, durationNanos,
+                        TimeUnit.MILLISECONDS.toNanos(remainingMillis), true, runStartMillis);
+                if (runStartMillis > latestRunStart) {
+                    latestRunStart = runStartMillis;
+                    resumedTask = task;
+                }
+            } else {
+                // 꺼져 있는 동안 끝난 구간은 마감 시각까지 실행된 것으로 기록
+                SessionLedger.getInstance().runEnded(task, rest, runStartMillis, Math.min(nowMillis, deadlineMillis));
+                entries.remove();
+            }
+        }
+    }
+
+    /**
+     * 살아 있는 레코드만 새 파일에 쓰고 기존 파일과 바꾸는 메서드
+     *
+     * @throws IOException 쓰기에 실패한 경우
+     */
+    private void compact() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+        Path tmpFile = checkpointFile.resolveSibling(CHECKPOINT_FILE + ".tmp");
+        try (FileChannel out = FileChannel.open(tmpFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            for (byte[] frame : live.values()) {
+                write(out, frame);
+            }
+            out.force(false);
+        }
+        Files.move(tmpFile, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel = FileChannel.open(checkpointFile, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        appendedSinceCompact = 0;
+    }
+
+    /**
+     * 타이머 상태를 레코드로 만드는 메서드
+     *
+     * @param taskId 작업 고유 번호, 작업이 없으면 SessionLedger.NO_TASK
+     * @param state  타이머 상태
+     * @return 레코드
+     */
+    private byte[] encode(long taskId, TimerService.State state) {
+        byte flags = (byte) ((state.isRunning() ? RUNNING : 0) | (state.isRest() ? REST : 0));
+        ByteBuffer frame = ByteBuffer.allocate(FRAME_BYTES);
+        frame.putInt(BODY_BYTES).putLong(taskId).put(flags)
+                .putLong(state.getRunStartMillis()).putLong(state.getDeadlineMillis())
+                .putLong(state.getRemainingNanos()).putLong(state.getDurationNanos());
+        crc.reset();
+        crc.update(frame.array(), 4, BODY_BYTES);
+        frame.putInt((int) crc.getValue());
+        return frame.array();
+    }
+
+    /**
+     * 레코드를 파일에 모두 쓰는 메서드
+     *
+     * @param out   파일
+     * @param frame 레코드
+     * @throws IOException 쓰기에 실패한 경우
+     */
+    private static void write(FileChannel out, byte[] frame) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(frame);
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+}
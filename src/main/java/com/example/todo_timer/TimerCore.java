@@ -0,0 +1,162 @@
+package com.example.todo_timer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 남은 시간을 단조 시계의 마감 시각으로 계산하는 카운트다운 타이머 클래스
+ * 매 틱마다 남은 시간을 줄이지 않고 시작할 때 마감 시각을 정해 두므로,
+ * 화면 갱신이 늦어지거나 다이얼로그가 떠 있는 동안에도 시간이 밀리지 않음
+ * 시계는 생성자로 바꿀 수 있으므로 실제로 기다리지 않고도 시간 흐름을 확인할 수 있음
+ */
+public class TimerCore {
+    private final LongSupplier clock; // 현재 시각(나노초)을 반환하는 단조 시계
+    private long durationNanos; // 현재 구간의 전체 시간
+    private long remainingNanos; // 정지 상태일 때의 남은 시간
+    private long deadlineNanos; // 실행 중일 때의 마감 시각
+    private boolean running; // 실행 중 여부
+
+
+    /**
+     * System.nanoTime을 시계로 사용하는 TimerCore의 생성자
+     */
+    public TimerCore() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * 시계를 지정하는 TimerCore의 생성자
+     *
+     * @param clock 현재 시각(나노초)을 반환하는 단조 시계
+     */
+    public TimerCore(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * 타이머를 정지하고 남은 시간을 새 시간으로 설정하는 메서드
+     *
+     * @param durationNanos 새 시간 (나노초)
+     */
+    public void reset(long durationNanos) {
+        this.durationNanos = durationNanos;
+        this.remainingNanos = durationNanos;
+        this.running = false;
+    }
+
+    /**
+     * 남은 시간만큼 뒤를 마감 시각으로 정하고 타이머를 시작하는 메서드
+     * 이미 실행 중이면 아무것도 하지 않음
+     */
+    public void start() {
+        if (running) {
+            return;
+        }
+        deadlineNanos = clock.getAsLong() + remainingNanos;
+        running = true;
+    }
+
+    /**
+     * 타이머를 일시정지하고 남은 시간을 저장하는 메서드
+     */
+    public void pause() {
+        if (!running) {
+            return;
+        }
+        remainingNanos = getRemainingNanos();
+        running = false;
+    }
+
+    /**
+     * 다음 구간을 이어서 시작하는 메서드
+     * 이전 구간의 마감 시각부터 이어서 계산하므로 구간이 바뀔 때 확인이 늦어진 만큼 시간이 밀리지 않음
+     * 이어서 계산한 마감 시각도 이미 지났으면(잠자기 모드 등) 현재 시각부터 시작
+     *
+     * @param durationNanos 다음 구간의 시간 (나노초)
+     */
+    public void startNext(long durationNanos) {
+        long now = clock.getAsLong();
+        long base = running ? deadlineNanos : now;
+        if (base + durationNanos - now <= 0) {
+            base = now;
+        }
+        this.durationNanos = durationNanos;
+        this.remainingNanos = durationNanos;
+        this.deadlineNanos = base + durationNanos;
+        this.running = true;
+    }
+
+    /**
+     * 저장해 둔 상태로 타이머를 되돌리는 메서드
+     * 실행 중이었으면 현재 시각부터 남은 시간만큼 뒤를 마감 시각으로 정함
+     *
+     * @param durationNanos  구간의 전체 시간 (나노초)
+     * @param remainingNanos 남은 시간 (나노초)
+     * @param running        실행 중이었으면 true
+     */
+    public void restore(long durationNanos, long remainingNanos, boolean running) {
+        this.durationNanos = durationNanos;
+        this.remainingNanos = remainingNanos;
+        this.deadlineNanos = clock.getAsLong() + remainingNanos;
+        this.running = running;
+    }
+
+    /**
+     * 남은 시간을 반환하는 메서드
+     *
+     * @return 남은 시간 (나노초), 마감 시각이 지났으면 0
+     */
+    public long getRemainingNanos() {
+        if (!running) {
+            return remainingNanos;
+        }
+        return Math.max(0, deadlineNanos - clock.getAsLong());
+    }
+
+    /**
+     * 화면에 표시할 남은 초를 반환하는 메서드
+     * 올림하므로 시작 직후에는 전체 시간이, 마지막 1초 동안에는 1이 표시됨
+     *
+     * @return 남은 시간 (초)
+     */
+    public long getRemainingSeconds() {
+        long second = TimeUnit.SECONDS.toNanos(1);
+        return (getRemainingNanos() + second - 1) / second;
+    }
+
+    /**
+     * 실행 중인 타이머의 마감 시각을 반환하는 메서드
+     *
+     * @return 마감 시각 (시계 기준 나노초), 정지 상태이면 의미 없음
+     */
+    public long getDeadlineNanos() {
+        return deadlineNanos;
+    }
+
+    /**
+     * 현재 구간의 전체 시간을 반환하는 메서드
+     *
+     * @return 전체 시간 (나노초)
+     */
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    /**
+     * 타이머가 실행 중인지 확인하는 메서드
+     *
+     * @return 실행 중이면 true
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 남은 시간이 없는지 확인하는 메서드
+     *
+     * @return 남은 시간이 0이면 true
+     */
+    public boolean isFinished() {
+        return getRemainingNanos() == 0;
+    }
+}
@@ -0,0 +1,791 @@
+package com.example.todo_timer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * 여러 카운트다운 타이머를 하나의 스케줄러 스레드로 실행하는 서비스 클래스
+ * 타이머는 계층형 타이밍 휠(4단계, 단계마다 64칸)에 연결 리스트로 걸어 두므로 시작, 일시정지, 취소가 O(1)이고,
+ * 스케줄러 스레드는 실행 중인 타이머 수와 관계없이 틱마다 한 번만 깨어나 현재 칸의 타이머만 확인
+ * 남은 시간은 각 타이머의 TimerCore가 마감 시각으로 계산하므로 틱 간격은 만료 알림의 정밀도에만 영향을 줌
+ */
+public class TimerService implements WorkspaceListener {
+    private static TimerService instance; // 애플리케이션 전체에서 공유하는 서비스
+
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(100); // 휠 한 칸의 시간
+    private static final int SLOT_BITS = 6; // 단계별 칸 수의 비트 수
+    private static final int SLOTS = 1 << SLOT_BITS; // 단계별 칸 수
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4; // 단계 수 (100ms × 64^4 ≒ 19일까지 한 번에 배치)
+    private static final long NO_RUN = Long.MIN_VALUE; // 끝난 실행 구간이 없음을 나타내는 값
+
+    private final LongSupplier clock; // 현재 시각(나노초)을 반환하는 단조 시계
+    private final long originNanos; // 틱 0의 시각
+    private final long originMillis; // 틱 0의 시각에 해당하는 실제 시각 (epoch 밀리초)
+    private volatile RunListener runListener; // 타이머가 실행된 구간을 전달받을 리스너
+    private volatile StateListener stateListener; // 타이머 상태가 바뀐 것을 전달받을 리스너
+    private final Countdown[][] wheel = new Countdown[LEVELS][SLOTS]; // 칸별 타이머 연결 리스트의 첫 항목
+    private long currentTick; // 마지막으로 처리한 틱
+    private int scheduledCount; // 휠에 걸려 있는 타이머 수
+    private final Map<Task, Countdown> taskTimers = new HashMap<>(); // 작업별 타이머
+    private Thread schedulerThread; // 틱마다 깨어나는 스케줄러 스레드
+
+
+    /**
+     * TimerService의 생성자
+     *
+     * @param clock 현재 시각(나노초)을 반환하는 단조 시계
+     */
+    TimerService(LongSupplier clock) {
+        this.clock = clock;
+        this.originNanos = clock.getAsLong();
+        this.originMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * 타이머가 실제로 실행된 구간을 전달받는 역할을 정의하는 인터페이스
+     * 일시정지, 정지, 다음 구간 시작으로 한 번의 연속 실행이 끝날 때마다 호출됨
+     */
+    public interface RunListener {
+        /**
+         * 연속 실행 구간이 끝났을 때 호출되는 메서드
+         *
+         * @param task        타이머의 작업, 작업과 연결되지 않은 타이머이면 null
+         * @param rest        휴식 구간이었으면 true
+         * @param startMillis 실행을 시작한 시각 (epoch 밀리초)
+         * @param endMillis   실행이 끝난 시각 (epoch 밀리초)
+         */
+        void runEnded(Task task, boolean rest, long startMillis, long endMillis);
+    }
+
+    /**
+     * 타이머가 실행된 구간을 전달받을 리스너를 설정하는 메서드
+     *
+     * @param runListener 리스너, 지우려면 null
+     */
+    public void setRunListener(RunListener runListener) {
+        this.runListener = runListener;
+    }
+
+    /**
+     * 타이머의 상태가 바뀐 것을 전달받는 역할을 정의하는 인터페이스
+     * 시작, 다음 구간 시작, 일시정지, 정지, 취소, 작업 삭제 때만 호출되고 틱마다 호출되지는 않음
+     */
+    public interface StateListener {
+        /**
+         * 타이머의 상태가 바뀌었을 때 호출되는 메서드
+         *
+         * @param state 바뀐 뒤의 상태
+         */
+        void stateChanged(State state);
+    }
+
+    /**
+     * 타이머 상태가 바뀐 것을 전달받을 리스너를 설정하는 메서드
+     *
+     * @param stateListener 리스너, 지우려면 null
+     */
+    public void setStateListener(StateListener stateListener) {
+        this.stateListener = stateListener;
+    }
+
+    /**
+     * 공유 서비스를 반환하는 메서드
+     * 처음 호출될 때 스케줄러 스레드를 시작하고 작업 삭제를 받기 시작
+     *
+     * @return TimerService 인스턴스
+     */
+    public static synchronized TimerService getInstance() {
+        if (instance == null) {
+            instance = new TimerService(System::nanoTime);
+            instance.startScheduler();
+            TaskRepository.getInstance().addWorkspaceListener(instance);
+        }
+        return instance;
+    }
+
+    /**
+     * 스케줄러 스레드를 시작하는 메서드
+     */
+    private void startScheduler() {
+        schedulerThread = new Thread(this::runScheduler, "timer-service");
+        schedulerThread.setDaemon(true);
+        schedulerThread.start();
+    }
+
+    /**
+     * 스케줄러 스레드의 실행 루프
+     * 실행 중인 타이머가 없으면 깨울 때까지 대기하고, 있으면 다음 틱까지만 대기
+     */
+    private void runScheduler() {
+        while (!Thread.currentThread().isInterrupted()) {
+            boolean idle;
+            long waitNanos;
+            synchronized (this) {
+                idle = scheduledCount == 0;
+                waitNanos = originNanos + (currentTick + 1) * TICK_NANOS - clock.getAsLong();
+            }
+            if (idle) {
+                LockSupport.park(this);
+            } else if (waitNanos > 0) {
+                LockSupport.parkNanos(this, waitNanos);
+            }
+            advance();
+        }
+    }
+
+    /**
+     * 새 타이머를 만드는 메서드
+     * 작업과 연결되지 않으므로 필요 없어지면 cancel로 정지
+     *
+     * @return 정지 상태의 타이머
+     */
+    public Countdown createTimer() {
+        return new Countdown(this);
+    }
+
+    /**
+     * 작업의 타이머를 반환하는 메서드
+     * 처음 요청하면 정지 상태의 타이머를 만들고, 작업이 삭제되면 타이머도 취소
+     *
+     * @param task 작업
+     * @return 작업의 타이머
+     */
+    public synchronized Countdown getTimer(Task task) {
+        return taskTimers.computeIfAbsent(task, key -> {
+            Countdown countdown = createTimer();
+            countdown.task = key;
+            return countdown;
+        });
+    }
+
+    /**
+     * 타이머를 시작하거나 이어서 실행하는 메서드
+     *
+     * @param countdown 시작할 타이머
+     */
+    public void start(Countdown countdown) {
+        State state;
+        synchronized (this) {
+            if (countdown.core.isRunning()) {
+                return;
+            }
+            countdown.core.start();
+            countdown.runStartNanos = clock.getAsLong();
+            skipIdleTicks();
+            schedule(countdown);
+            state = captureState(countdown);
+        }
+        wakeScheduler();
+        fireStateChanged(state);
+    }
+
+    /**
+     * 이전 구간의 마감 시각부터 다음 구간을 이어서 시작하는 메서드
+     * 끝난 구간이 바뀌기 전의 구간 종류로 기록되도록 같은 잠금 안에서 구간 종류를 바꿈
+     *
+     * @param countdown     시작할 타이머
+     * @param durationNanos 다음 구간의 시간 (나노초)
+     * @param nextRest      다음 구간이 휴식 구간이면 true
+     */
+    public void startNext(Countdown countdown, long durationNanos, boolean nextRest) {
+        long runStart;
+        long runEnd;
+        boolean rest;
+        State state;
+        synchronized (this) {
+            runStart = countdown.runStartNanos;
+            runEnd = endRun(countdown);
+            rest = countdown.rest;
+            unschedule(countdown);
+            countdown.core.startNext(durationNanos);
+            countdown.runStartNanos = countdown.core.getDeadlineNanos() - durationNanos;
+            countdown.rest = nextRest;
+            skipIdleTicks();
+            schedule(countdown);
+            state = captureState(countdown);
+        }
+        wakeScheduler();
+        fireRunEnded(countdown, rest, runStart, runEnd);
+        fireStateChanged(state);
+    }
+
+    /**
+     * 타이머를 일시정지하는 메서드
+     *
+     * @param countdown 일시정지할 타이머
+     */
+    public void pause(Countdown countdown) {
+        long runStart;
+        long runEnd;
+        boolean rest;
+        State state;
+        synchronized (this) {
+            runStart = countdown.runStartNanos;
+            runEnd = endRun(countdown);
+            rest = countdown.rest;
+            unschedule(countdown);
+            countdown.core.pause();
+            state = captureState(countdown);
+        }
+        fireRunEnded(countdown, rest, runStart, runEnd);
+        fireStateChanged(state);
+    }
+
+    /**
+     * 타이머를 정지하고 남은 시간을 새 시간으로 설정하는 메서드
+     *
+     * @param countdown     정지할 타이머
+     * @param durationNanos 새 시간 (나노초)
+     */
+    public void reset(Countdown countdown, long durationNanos) {
+        long runStart;
+        long runEnd;
+        boolean rest;
+        State state;
+        synchronized (this) {
+            runStart = countdown.runStartNanos;
+            runEnd = endRun(countdown);
+            rest = countdown.rest;
+            unschedule(countdown);
+            countdown.core.reset(durationNanos);
+            state = captureState(countdown);
+        }
+        fireRunEnded(countdown, rest, runStart, runEnd);
+        fireStateChanged(state);
+    }
+
+    /**
+     * 타이머를 취소하는 메서드
+     * 남은 시간은 처음 시간으로 되돌리고 휴식 구간 표시도 지움
+     *
+     * @param countdown 취소할 타이머
+     */
+    public void cancel(Countdown countdown) {
+        long runStart;
+        long runEnd;
+        boolean rest;
+        State state;
+        synchronized (this) {
+            runStart = countdown.runStartNanos;
+            runEnd = endRun(countdown);
+            rest = countdown.rest;
+            unschedule(countdown);
+            countdown.core.reset(countdown.core.getDurationNanos());
+            countdown.rest = false;
+            state = captureState(countdown);
+        }
+        fireRunEnded(countdown, rest, runStart, runEnd);
+        fireStateChanged(state);
+    }
+
+    /**
+     * 저장해 둔 상태로 타이머를 되돌리는 메서드
+     * 재시작 전에 시작한 연속 실행은 아직 기록되지 않았으므로, 실행 중이면 그 시작 시각부터 이어서 기록되도록 함
+     *
+     * @param countdown      되돌릴 타이머
+     * @param rest           휴식 구간이면 true
+     * @param durationNanos  구간의 전체 시간 (나노초)
+     * @param remainingNanos 남은 시간 (나노초)
+     * @param running        실행 중이었으면 true
+     * @param runStartMillis 연속 실행을 시작한 시각 (epoch 밀리초), 실행 중이 아니면 무시
+     */
+    void restore(Countdown countdown, boolean rest, long durationNanos, long remainingNanos,
+                 boolean running, long runStartMillis) {
+        synchronized (this) {
+            unschedule(countdown);
+            countdown.core.restore(durationNanos, remainingNanos, running);
+            countdown.rest = rest;
+            if (running) {
+                long elapsedMillis = System.currentTimeMillis() - runStartMillis;
+                countdown.runStartNanos = clock.getAsLong() - TimeUnit.MILLISECONDS.toNanos(elapsedMillis);
+                skipIdleTicks();
+                schedule(countdown);
+            }
+        }
+        wakeScheduler();
+    }
+
+    /**
+     * 타이머의 현재 상태를 복사하는 메서드
+     * 서비스의 잠금 안에서 호출
+     *
+     * @param countdown 타이머
+     * @return 현재 상태
+     */
+    private State captureState(Countdown countdown) {
+        boolean running = countdown.core.isRunning();
+        return new State(countdown.task, running, countdown.rest,
+                running ? toEpochMillis(countdown.runStartNanos) : 0,
+                running ? toEpochMillis(countdown.core.getDeadlineNanos()) : 0,
+                countdown.core.getRemainingNanos(), countdown.core.getDurationNanos());
+    }
+
+    /**
+     * 바뀐 상태를 리스너에 전달하는 메서드
+     * 리스너가 파일에 기록할 수 있으므로 서비스의 잠금 밖에서 호출
+     *
+     * @param state 바뀐 뒤의 상태
+     */
+    private void fireStateChanged(State state) {
+        StateListener listener = stateListener;
+        if (listener != null) {
+            listener.stateChanged(state);
+        }
+    }
+
+    /**
+     * 실행 중인 타이머의 연속 실행이 끝난 시각을 반환하는 메서드
+     * 만료된 뒤에 정지하면 실제로 실행된 구간은 마감 시각까지이므로 현재 시각과 마감 시각 중 이른 쪽을 사용
+     *
+     * @param countdown 타이머
+     * @return 실행이 끝난 시각 (나노초), 실행 중이 아니면 NO_RUN
+     */
+    private long endRun(Countdown countdown) {
+        if (!countdown.core.isRunning()) {
+            return NO_RUN;
+        }
+        return Math.min(clock.getAsLong(), countdown.core.getDeadlineNanos());
+    }
+
+    /**
+     * 끝난 연속 실행 구간을 리스너에 전달하는 메서드
+     * 리스너가 파일에 기록할 수 있으므로 서비스의 잠금 밖에서 호출
+     *
+     * @param countdown  타이머
+     * @param rest       휴식 구간이었으면 true
+     * @param startNanos 실행을 시작한 시각 (나노초)
+     * @param endNanos   실행이 끝난 시각 (나노초), 실행 중이 아니었으면 NO_RUN
+     */
+    private void fireRunEnded(Countdown countdown, boolean rest, long startNanos, long endNanos) {
+        RunListener listener = runListener;
+        if (listener == null || endNanos == NO_RUN || endNanos <= startNanos) {
+            return;
+        }
+        listener.runEnded(countdown.task, rest, toEpochMillis(startNanos), toEpochMillis(endNanos));
+    }
+
+    /**
+     * 시계 기준 시각을 실제 시각으로 바꾸는 메서드
+     *
+     * @param nanos 시계 기준 시각 (나노초)
+     * @return 실제 시각 (epoch 밀리초)
+     */
+    private long toEpochMillis(long nanos) {
+        return originMillis + TimeUnit.NANOSECONDS.toMillis(nanos - originNanos);
+    }
+
+    /**
+     * 휠에 걸려 있는 타이머 수를 반환하는 메서드
+     *
+     * @return 실행 중인 타이머 수
+     */
+    public synchronized int getScheduledCount() {
+        return scheduledCount;
+    }
+
+    /**
+     * 현재 시각까지의 틱을 처리하고 만료된 타이머의 리스너를 호출하는 메서드
+     * 리스너는 잠금 밖에서 스케줄러 스레드로 호출되므로 화면을 바꾸려면 Platform.runLater를 사용
+     */
+    void advance() {
+        List<Countdown> expired = new ArrayList<>();
+        synchronized (this) {
+            long targetTick = (clock.getAsLong() - originNanos) / TICK_NANOS;
+            while (currentTick < targetTick && scheduledCount > 0) {
+                currentTick++;
+                int index = (int) (currentTick & SLOT_MASK);
+                if (index == 0) {
+                    cascade(1);
+                }
+                Countdown countdown = wheel[0][index];
+                wheel[0][index] = null;
+                while (countdown != null) {
+                    Countdown next = countdown.next;
+                    countdown.prev = null;
+                    countdown.next = null;
+                    countdown.level = -1;
+                    scheduledCount--;
+                    if (countdown.expiryTick > currentTick) {
+                        place(countdown); // 최상위 단계를 넘는 타이머는 다시 배치
+                    } else {
+                        expired.add(countdown);
+                    }
+                    countdown = next;
+                }
+            }
+            if (scheduledCount == 0) {
+                currentTick = targetTick; // 실행 중인 타이머가 없으면 빈 틱을 건너뜀
+            }
+        }
+        for (Countdown countdown : expired) {
+            Consumer<Countdown> listener = countdown.listener;
+            if (listener != null) {
+                listener.accept(countdown);
+            }
+        }
+    }
+
+    /**
+     * 상위 단계의 현재 칸에 있는 타이머를 한 단계 아래로 다시 배치하는 메서드
+     * 그 단계의 칸 번호가 다시 0이 되면 더 상위 단계도 이어서 내림
+     *
+     * @param level 내릴 단계
+     */
+    private void cascade(int level) {
+        if (level >= LEVELS) {
+            return;
+        }
+        int index = (int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+        if (index == 0) {
+            cascade(level + 1);
+        }
+        Countdown countdown = wheel[level][index];
+        wheel[level][index] = null;
+        while (countdown != null) {
+            Countdown next = countdown.next;
+            countdown.prev = null;
+            countdown.next = null;
+            countdown.level = -1;
+            scheduledCount--;
+            place(countdown); // 만료 틱은 그대로 두고 한 단계 아래로 옮김
+            countdown = next;
+        }
+    }
+
+    /**
+     * 휠이 비어 있으면 현재 틱을 현재 시각으로 옮기는 메서드
+     * 스케줄러가 쉬는 동안 지난 틱에는 처리할 타이머가 없으므로 하나씩 돌지 않고 건너뜀
+     */
+    private void skipIdleTicks() {
+        if (scheduledCount == 0) {
+            currentTick = Math.max(currentTick, (clock.getAsLong() - originNanos) / TICK_NANOS);
+        }
+    }
+
+    /**
+     * 실행 중인 타이머의 만료 틱을 마감 시각으로 정하고 휠의 칸에 거는 메서드
+     * 현재 틱은 이미 처리했으므로 시작할 때 마감 시각이 지났으면 다음 틱에 만료되게 함
+     *
+     * @param countdown 걸 타이머
+     */
+    private void schedule(Countdown countdown) {
+        long deadlineTick = -Math.floorDiv(-(countdown.core.getDeadlineNanos() - originNanos), TICK_NANOS); // 올림
+        countdown.expiryTick = Math.max(deadlineTick, currentTick + 1);
+        place(countdown);
+    }
+
+    /**
+     * 만료 틱이 정해진 타이머를 휠의 칸에 거는 메서드
+     * 상위 단계에서 내려온 타이머의 만료 틱이 현재 틱이면 cascade 바로 뒤에 처리되는 0단계의 현재 칸에 걸어 늦지 않게 함
+     *
+     * @param countdown 걸 타이머
+     */
+    private void place(Countdown countdown) {
+        long delta = Math.max(countdown.expiryTick - currentTick, 0);
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        long slotTick = Math.max(countdown.expiryTick, currentTick);
+        if (delta >= 1L << (SLOT_BITS * LEVELS)) {
+            // 휠 범위를 넘으면 최상위 단계의 마지막 칸에 두고 내려올 때 다시 배치
+            slotTick = currentTick + ((long) SLOT_MASK << (SLOT_BITS * level));
+        }
+        int index = (int) ((slotTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+
+        countdown.level = level;
+        countdown.slot = index;
+        countdown.prev = null;
+        countdown.next = wheel[level][index];
+        if (countdown.next != null) {
+            countdown.next.prev = countdown;
+        }
+        wheel[level][index] = countdown;
+        scheduledCount++;
+    }
+
+    /**
+     * 휠에서 타이머를 떼어 내는 메서드
+     *
+     * @param countdown 떼어 낼 타이머
+     */
+    private void unschedule(Countdown countdown) {
+        if (countdown.level < 0) {
+            return;
+        }
+        if (countdown.prev == null) {
+            wheel[countdown.level][countdown.slot] = countdown.next;
+        } else {
+            countdown.prev.next = countdown.next;
+        }
+        if (countdown.next != null) {
+            countdown.next.prev = countdown.prev;
+        }
+        countdown.prev = null;
+        countdown.next = null;
+        countdown.level = -1;
+        scheduledCount--;
+    }
+
+    /**
+     * 대기 중인 스케줄러 스레드를 깨워 다음 틱까지의 대기 시간을 다시 계산하게 하는 메서드
+     */
+    private void wakeScheduler() {
+        if (schedulerThread != null) {
+            LockSupport.unpark(schedulerThread);
+        }
+    }
+
+    @Override
+    public void taskDeleted(Task task) {
+        // 취소와 같이 실행 중이던 구간을 기록하고 타이머를 멈춘 뒤 목록에서 뺌
+        Countdown countdown;
+        long runStart;
+        long runEnd;
+        boolean rest;
+        synchronized (this) {
+            countdown = taskTimers.remove(task);
+            if (countdown == null) {
+                return;
+            }
+            runStart = countdown.runStartNanos;
+            runEnd = endRun(countdown);
+            rest = countdown.rest;
+            unschedule(countdown);
+            countdown.core.reset(countdown.core.getDurationNanos());
+            countdown.rest = false;
+        }
+        fireRunEnded(countdown, rest, runStart, runEnd);
+        fireStateChanged(new State(task, false, false, 0, 0, 0, 0)); // 삭제된 작업의 타이머는 처음 상태로 전달
+    }
+
+    @Override
+    public void projectDeleted(ProjectManager project) {
+        for (Task task : project.getTasks()) {
+            taskDeleted(task);
+        }
+        for (Task task : project.getCompletedTasks()) {
+            taskDeleted(task);
+        }
+    }
+
+    /**
+     * TimerService가 실행하는 카운트다운 타이머 클래스
+     * 시작, 일시정지, 취소는 TimerService를 통해 하고, 남은 시간은 어느 스레드에서든 읽을 수 있음
+     */
+    public static final class Countdown {
+        private final TimerService service; // 타이머를 실행하는 서비스
+        private final TimerCore core; // 남은 시간을 계산하는 타이머
+        private volatile Consumer<Countdown> listener; // 만료되었을 때 호출할 리스너
+        private volatile boolean rest; // 휴식 구간 여부
+        private Task task; // 타이머의 작업, 작업과 연결되지 않은 타이머이면 null
+        private long runStartNanos; // 현재 연속 실행을 시작한 시각 (서비스의 잠금 안에서만 사용)
+
+        // 휠 위치 (서비스의 잠금 안에서만 사용)
+        private Countdown prev;
+        private Countdown next;
+        private int level = -1; // 걸려 있는 단계, 걸려 있지 않으면 -1
+        private int slot; // 걸려 있는 칸
+        private long expiryTick; // 만료되는 틱
+
+
+        /**
+         * Countdown의 생성자
+         *
+         * @param service 타이머를 실행하는 서비스
+         */
+        private Countdown(TimerService service) {
+            this.service = service;
+            this.core = new TimerCore(service.clock);
+        }
+
+        /**
+         * 만료되었을 때 호출할 리스너를 설정하는 메서드
+         * 리스너는 스케줄러 스레드에서 호출됨
+         *
+         * @param listener 리스너, 지우려면 null
+         */
+        public void setListener(Consumer<Countdown> listener) {
+            this.listener = listener;
+        }
+
+        /**
+         * 남은 시간을 반환하는 메서드
+         *
+         * @return 남은 시간 (나노초)
+         */
+        public long getRemainingNanos() {
+            synchronized (service) {
+                return core.getRemainingNanos();
+            }
+        }
+
+        /**
+         * 화면에 표시할 남은 초를 반환하는 메서드
+         *
+         * @return 남은 시간 (초)
+         */
+        public long getRemainingSeconds() {
+            synchronized (service) {
+                return core.getRemainingSeconds();
+            }
+        }
+
+        /**
+         * 현재 구간의 전체 시간을 반환하는 메서드
+         *
+         * @return 전체 시간 (나노초)
+         */
+        public long getDurationNanos() {
+            synchronized (service) {
+                return core.getDurationNanos();
+            }
+        }
+
+        /**
+         * 타이머가 실행 중인지 확인하는 메서드
+         *
+         * @return 실행 중이면 true
+         */
+        public boolean isRunning() {
+            synchronized (service) {
+                return core.isRunning();
+            }
+        }
+
+        /**
+         * 타이머의 작업을 반환하는 메서드
+         *
+         * @return 작업, 작업과 연결되지 않은 타이머이면 null
+         */
+        public Task getTask() {
+            return task;
+        }
+
+        /**
+         * 휴식 구간인지 확인하는 메서드
+         *
+         * @return 휴식 구간이면 true
+         */
+        public boolean isRest() {
+            return rest;
+        }
+
+    }
+
+    /**
+     * 상태가 바뀐 시점의 타이머 상태를 담는 클래스
+     */
+    public static final class State {
+        private final Task task; // 타이머의 작업, 작업과 연결되지 않은 타이머이면 null
+        private final boolean running; // 실행 중 여부
+        private final boolean rest; // 휴식 구간 여부
+        private final long runStartMillis; // 현재 연속 실행을 시작한 시각 (epoch 밀리초)
+        private final long deadlineMillis; // 마감 시각 (epoch 밀리초)
+        private final long remainingNanos; // 남은 시간
+        private final long durationNanos; // 구간의 전체 시간
+
+
+        /**
+         * State의 생성자
+         *
+         * @param task           타이머의 작업
+         * @param running        실행 중이면 true
+         * @param rest           휴식 구간이면 true
+         * @param runStartMillis 연속 실행을 시작한 시각 (epoch 밀리초), 실행 중이 아니면 0
+         * @param deadlineMillis 마감 시각 (epoch 밀리초), 실행 중이 아니면 0
+         * @param remainingNanos 남은 시간 (나노초)
+         * @param durationNanos  구간의 전체 시간 (나노초)
+         */
+        private State(Task task, boolean running, boolean rest, long runStartMillis, long deadlineMillis,
+                      long remainingNanos, long durationNanos) {
+            this.task = task;
+            this.running = running;
+            this.rest = rest;
+            this.runStartMillis = runStartMillis;
+            this.deadlineMillis = deadlineMillis;
+            this.remainingNanos = remainingNanos;
+            this.durationNanos = durationNanos;
+        }
+
+        /**
+         * 타이머의 작업을 반환하는 메서드
+         *
+         * @return 작업, 작업과 연결되지 않은 타이머이면 null
+         */
+        public Task getTask() {
+            return task;
+        }
+
+        /**
+         * 실행 중인지 확인하는 메서드
+         *
+         * @return 실행 중이면 true
+         */
+        public boolean isRunning() {
+            return running;
+        }
+
+        /**
+         * 휴식 구간인지 확인하는 메서드
+         *
+         * @return 휴식 구간이면 true
+         */
+        public boolean isRest() {
+            return rest;
+        }
+
+        /**
+         * 현재 연속 실행을 시작한 시각을 반환하는 메서드
+         *
+         * @return 시작 시각 (epoch 밀리초), 실행 중이 아니면 0
+         */
+        public long getRunStartMillis() {
+            return runStartMillis;
+        }
+
+        /**
+         * 마감 시각을 반환하는 메서드
+         *
+         * @return 마감 시각 (epoch 밀리초), 실행 중이 아니면 0
+         */
+        public long getDeadlineMillis() {
+            return deadlineMillis;
+        }
+
+        /**
+         * 남은 시간을 반환하는 메서드
+         *
+         * @return 남은 시간 (나노초)
+         */
+        public long getRemainingNanos() {
+            return remainingNanos;
+        }
+
+        /**
+         * 구간의 전체 시간을 반환하는 메서드
+         *
+         * @return 전체 시간 (나노초)
+         */
+        public long getDurationNanos() {
+            return durationNanos;
+        }
+
+        /**
+         * 되돌릴 필요가 없는 처음 상태인지 확인하는 메서드
+         *
+         * @return 정지 상태이고 진행한 시간이 없는 작업 구간이면 true
+         */
+        public boolean isIdle() {
+            return !running && !rest && remainingNanos == durationNanos;
+        }
+    }
+}
+
@@ -1,32 +1,18 @@
 package com.example.todo_timer;
 
-import javafx.animation.*;
-import javafx.application.Platform;
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import javafx.beans.binding.Bindings;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
 import javafx.fxml.Initializable;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
 import javafx.scene.control.*;
-import javafx.scene.layout.StackPane;
-import javafx.scene.text.Font;
-import javafx.stage.Stage;
-import javafx.util.Duration;
-import java.io.IOException;
+import javafx.scene.input.KeyCode;
+import javafx.scene.layout.AnchorPane;
 import java.net.URL;
-import java.time.LocalDate;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Optional;
 import java.util.ResourceBundle;
 
-import static com.example.todo_timer.TodoTaskController.dueDates;
-import static com.example.todo_timer.TodoTaskController.taskMemos;
-
 
 public class TodoMainController implements Initializable {
+    @FXML
+    private AnchorPane main_layout; // 메인 화면 레이아웃
     @FXML
     private Button tm_btn; // "타이머" 버튼
     @FXML
@@ -37,9 +23,24 @@ public class TodoMainController implements Initializable {
     private Button manageTask_btn; // "To-Do 관리" 버튼
     @FXML
     private Button manageProject_btn; // "프로젝트 관리" 버튼
+    @FXML
+    private TextField searchField; // 작업 검색어 입력 필드
+    @FXML
+    private ListView<Task> searchResultView; // 검색된 작업 목록
+    @FXML
+    private Button stats_btn; // "통계" 버튼
 
-    // 프로젝트 관리 목록을 저장하는 ObservableList
-    private static ObservableList<ProjectManager> projects = FXCollections.observableArrayList();
+    // 검색 결과로 표시할 최대 작업 수
+    private static final int SEARCH_LIMIT = 50;
+
+    // 프로젝트와 작업을 관리하는 저장소
+    private final TaskRepository repository = TaskRepository.getInstance();
+
+    // 알림을 토스트로 표시하는 알림 센터
+    private final NotificationCenter notifications = NotificationCenter.getInstance();
+
+    // 화면 전환을 담당하는 라우터
+    private final ViewRouter router = ViewRouter.getInstance();
 
     // TodoTaskController 인스턴스
     private final TodoTaskController todoTaskController;
@@ -56,27 +57,8 @@ public class TodoMainController implements Initializable {
     @Override
     public void initialize(URL location, ResourceBundle resources) {
 
-        // "타이머" 버튼에 대한 클릭 이벤트 핸들러
-        tm_btn.setOnMouseClicked(event -> {
-            try {
-                // TodoTimer.fxml 뷰를 로드하고 화면에 추가
-                Parent sub = FXMLLoader.load(getClass().getResource("TodoTimer.fxml"));
-                StackPane root = (StackPane) tm_btn.getScene().getRoot();
-                root.getChildren().add(sub);
-
-                // 뷰에 줌 인 애니메이션 효과 적용
-                sub.setScaleX(0); // 초기 스케일을 0으로 설정 (완전히 작게 시작)
-                sub.setScaleY(0); // 초기 스케일을 0으로 설정 (완전히 작게 시작)
-
-                ScaleTransition zoomIn = new ScaleTransition(Duration.millis(300), sub);
-                zoomIn.setToX(1); // 최종적으로 정상 크기로
-                zoomIn.setToY(1); // 최종적으로 정상 크기로
-
-                zoomIn.play(); // 애니메이션 실행
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
-        });
+        // "타이머" 버튼을 누르면 타이머 화면을 줌 인 애니메이션으로 표시
+        tm_btn.setOnMouseClicked(event -> router.show("TodoTimer.fxml", ViewRouter.TransitionType.ZOOM_IN));
 
         // "To-Do 관리" 버튼에 대한 클릭 이벤트 핸들러
         manageTask_btn.setOnMouseClicked(event -> {
@@ -84,32 +66,19 @@ public class TodoMainController implements Initializable {
             ProjectManager selectedProject = projectListView.getSelectionModel().getSelectedItem();
             // 작업이 없거나 선택되지 않았을 경우 에러 메시지를 표시
             if (projectListView.getItems().isEmpty()) {
-                showPopup("오류", "프로젝트가 없습니다..!");
+                notifications.notify("오류", "프로젝트가 없습니다..!");
             } else if (selectedProject == null) {
-                showPopup("오류", "프로젝트를 선택하세요..!");
+                notifications.notify("오류", "프로젝트를 선택하세요..!");
             } else {
-                try {
-                    todoTaskController.setCurrentProject(selectedProject);
-                    Parent sub = FXMLLoader.load(getClass().getResource("TodoTask.fxml"));
-                    StackPane root = (StackPane) manageTask_btn.getScene().getRoot();
-                    root.getChildren().add(sub);
-
-                    // 뷰에 오른쪽 바깥에서 중앙으로 슬라이드하는 애니메이션 효과 적용
-                    sub.setTranslateX(root.getWidth()); // 시작 위치를 화면 오른쪽 바깥으로 설정
-                    TranslateTransition slideTransition = new TranslateTransition(Duration.millis(300), sub);
-                    slideTransition.setToX(0); // 최종 위치를 화면 내부(0)로 설정
-
-                    slideTransition.play(); // 애니메이션 실행
-
-                } catch (IOException e) {
-                    throw new RuntimeException(e);
-                }
+                todoTaskController.setCurrentProject(selectedProject);
+                router.show("TodoTask.fxml", ViewRouter.TransitionType.SLIDE_IN);
             }
         });
 
 
         /*
           projectListView의 셀 팩토리를 설정하는 메서드
+          셀 텍스트는 프로젝트 이름과 작업 수 속성에 바인딩되므로, 둘 중 하나가 바뀌면 그 셀만 다시 그려짐
 
           @param lv ListView<ProjectManager> 인스턴스
          */
@@ -117,38 +86,103 @@ public class TodoMainController implements Initializable {
             @Override
             protected void updateItem(ProjectManager project, boolean empty) {
                 super.updateItem(project, empty);
+                textProperty().unbind();
                 if (empty || project == null) {
                     setText(null);
                 } else {
-                    setText(project.toString()); // 여기서 프로젝트 이름과 작업 수를 표시
+                    // 여기서 프로젝트 이름과 작업 수를 표시
+                    textProperty().bind(Bindings.concat(project.nameProperty(), " (", project.taskCountProperty(), ")"));
                 }
             }
         });
 
+        // 검색 결과는 "[프로젝트] - 작업" 형식으로 표시
+        searchResultView.setCellFactory(lv -> new ListCell<>() {
+            @Override
+            protected void updateItem(Task task, boolean empty) {
+                super.updateItem(task, empty);
+                setText(empty || task == null ? null : task.toString());
+            }
+        });
+
+        // 색인은 처음 사용할 때 백그라운드에서 만들어지므로 검색 필드에 들어오면 미리 준비하고,
+        // 준비되기 전에 입력한 검색어는 색인이 준비되면 다시 검색
+        searchField.focusedProperty().addListener((observable, wasFocused, focused) -> {
+            if (focused) {
+                SearchIndex index = SearchIndex.getInstance();
+                if (!index.isReady()) {
+                    index.whenReady(() -> searchTasks(searchField.getText()));
+                }
+            }
+        });
+        // 입력할 때마다 색인에서 검색하고, 검색어가 비면 결과 목록을 숨김
+        searchField.textProperty().addListener((observable, oldText, newText) -> searchTasks(newText));
+        searchField.setOnKeyPressed(event -> {
+            if (event.getCode() == KeyCode.ENTER && !searchResultView.getItems().isEmpty()) {
+                // 선택한 작업이 없으면 가장 점수가 높은 작업으로 이동
+                Task selectedTask = searchResultView.getSelectionModel().getSelectedItem();
+                openTask(selectedTask != null ? selectedTask : searchResultView.getItems().get(0));
+            } else if (event.getCode() == KeyCode.DOWN && !searchResultView.getItems().isEmpty()) {
+                searchResultView.requestFocus();
+                searchResultView.getSelectionModel().selectFirst();
+            } else if (event.getCode() == KeyCode.ESCAPE) {
+                searchField.clear();
+            }
+        });
+        searchResultView.setOnMouseClicked(event -> {
+            Task selectedTask = searchResultView.getSelectionModel().getSelectedItem();
+            if (selectedTask != null) {
+                openTask(selectedTask);
+            }
+        });
+        searchResultView.setOnKeyPressed(event -> {
+            Task selectedTask = searchResultView.getSelectionModel().getSelectedItem();
+            if (event.getCode() == KeyCode.ENTER && selectedTask != null) {
+                openTask(selectedTask);
+            }
+        });
+
         updateProjectList(); // 프로젝트 목록 업데이트
-        checkAllDeadlines(); // 마감 기한 체크
     }
 
     /**
-     * 팝업 창을 표시하는 메서드.
+     * 검색어와 일치하는 작업을 검색 결과 목록에 표시하는 메서드
      *
-     * @param title   팝업 창 제목
-     * @param message 팝업 메시지
+     * @param query 검색어
      */
-    private void showPopup(String title, String message) {
-        // Platform.runLater() 메서드를 사용하여 JavaFX 애플리케이션 스레드에서 실행되도록 작업을 예약하는 데 사용
-        // 이렇게 하면 showAndWait()가 다음 프레임에서 실행되므로 애니메이션이나 레이아웃 처리와 충돌하지 않음
-        Platform.runLater(() -> {
-            Alert alert = new Alert(Alert.AlertType.INFORMATION);
-            alert.setTitle(title);
-            alert.setHeaderText(null);
-            alert.setContentText(message);
-
-            //팝업창 색감 스타일 입히기
-            alert.getDialogPane().getStylesheets().add(getClass().getResource("/css/style.css").toExternalForm());
-            alert.showAndWait();
+    private void searchTasks(String query) {
+        if (query == null || query.isBlank()) {
+            searchResultView.getItems().clear();
+            searchResultView.setVisible(false);
+            return;
+        }
+        searchResultView.getItems().setAll(SearchIndex.getInstance().search(query, SEARCH_LIMIT));
+        searchResultView.setVisible(!searchResultView.getItems().isEmpty());
+    }
 
-        });
+    /**
+     * 검색된 작업의 화면으로 이동하는 메서드
+     * 진행 중인 작업은 작업 관리 화면을, 완료한 작업은 변경할 수 없으므로 프로젝트의 작업 목록 화면을 표시
+     *
+     * @param task 이동할 작업
+     */
+    private void openTask(Task task) {
+        todoTaskController.setCurrentProject(task.getProject());
+        searchField.clear();
+        if (task.isCompleted()) {
+            router.show("TodoTask.fxml", ViewRouter.TransitionType.SLIDE_IN);
+        } else {
+            new TodoTaskManageController().setSelectTask(task);
+            router.show("TodoTaskManage.fxml", ViewRouter.TransitionType.SLIDE_IN);
+        }
+    }
+
+    /**
+     * 집중 통계 화면을 여는 메서드
+     */
+    @FXML
+    private void openStats() {
+        router.show("TodoStats.fxml", ViewRouter.TransitionType.SLIDE_IN);
     }
 
     /**
@@ -160,7 +194,7 @@ public class TodoMainController implements Initializable {
         if (projectListView == null) {
             projectListView = new ListView<>();
         }
-        projectListView.setItems(projects);
+        projectListView.setItems(repository.getProjects());
     }
 
     /**
@@ -170,12 +204,7 @@ public class TodoMainController implements Initializable {
      * @return 중복 여부 (true: 중복됨, false: 중복 되지 않음)
      */
     private boolean isProjectNameExist(String projectName) {
-        for (ProjectManager project : projects) {
-            if (project.getName().equals(projectName)) {
-                return true;
-            }
-        }
-        return false;
+        return repository.containsProject(projectName);
     }
 
 
@@ -194,61 +223,21 @@ public class TodoMainController implements Initializable {
         dialogPane.getStylesheets().add(getClass().getResource("/css/TodoTimer.css").toExternalForm());
         dialogPane.getStyleClass().add("custom-dialog");
 
-        Optional<String> result = dialog.showAndWait();
-        result.ifPresent(newName -> {
-            // 중복 프로젝트 이름을 확인
-            if (isProjectNameExist(newName)) {
-                showPopup("중복된 프로젝트", "이미 존재하는 프로젝트 이름입니다.");
+        notifications.ask(dialog, newName -> {
+            // 다이얼로그가 열린 동안 다른 다이얼로그에서 삭제되었으면 이름을 바꾸지 않음
+            if (!repository.containsProject(project)) {
+                notifications.notify("오류", "이미 삭제된 프로젝트입니다.");
+            } else if (isProjectNameExist(newName)) {
+                // 이미 있는 이름으로는 바꾸지 않음
+                notifications.notify("중복된 프로젝트", "이미 존재하는 프로젝트 이름입니다.");
             } else {
-                String oldName = project.getName();
-                project.setName(newName);
-                showPopup("수정", "수정 되었습니다..!");
-                updateProjectNameInDueDatesAndMemos(oldName, newName);
-                updateProjectList();
-                reloadMainScene();
-            }
-        });
-    }
-
-    /**
-     * dueDates와 taskMemos 맵에서 프로젝트 이름을 변경 하는 메서드
-     *
-     * @param oldName 이전 프로젝트 이름
-     * @param newName 새로운 프로젝트 이름
-     */
-    private void updateProjectNameInDueDatesAndMemos(String oldName, String newName) {
-        // dueDates 맵 업데이트
-        Map<String, LocalDate> updatedDueDates = new HashMap<>();
-        dueDates.forEach((key, value) -> {
-            // 프로젝트 이름이 이전 프로젝트 이름으로 시작하는 경우
-            if (key.startsWith(oldName + " - ")) {
-                // 새로운 프로젝트 이름을 추가한 키로 변경
-                key = newName + key.substring(oldName.length());
-            }
-            // 업데이트된 키와 값을 새 맵에 저장
-            updatedDueDates.put(key, value);
-        });
-        // 원래 맵을 비우고 업데이트된 맵의 내용을 복사
-        dueDates.clear();
-        dueDates.putAll(updatedDueDates);
-
-        // taskMemos 맵 업데이트
-        Map<String, String> updatedTaskMemos = new HashMap<>();
-        taskMemos.forEach((key, value) -> {
-            // 프로젝트 이름이 이전 프로젝트 이름으로 시작하는 경우
-            if (key.startsWith(oldName + " - ")) {
-                // 새로운 프로젝트 이름을 추가한 키로 변경
-                key = newName + key.substring(oldName.length());
+                // 마감일과 메모는 작업 객체를 키로 저장되므로 이름만 바꾸면 됨
+                project.setName(newName); // 이름 속성에 바인딩된 셀만 다시 그려짐
+                notifications.notify("수정", "수정 되었습니다..!");
             }
-            // 업데이트된 키와 값을 새 맵에 저장
-            updatedTaskMemos.put(key, value);
         });
-        // 원래 맵을 비우고 업데이트된 맵의 내용을 복사
-        taskMemos.clear();
-        taskMemos.putAll(updatedTaskMemos);
     }
 
-
     /**
      * 프로젝트를 삭제하는 메서드
      *
@@ -266,77 +255,17 @@ public class TodoMainController implements Initializable {
         dialogPane.getStylesheets().add(getClass().getResource("/css/TodoTimer.css").toExternalForm());
         dialogPane.getStyleClass().add("custom-dialog");
 
-        Optional<ButtonType> result = confirmation.showAndWait();
-        if (result.isPresent() && result.get() == ButtonType.OK) {
-            // 사용자가 '확인'을 선택한 경우
+        notifications.ask(confirmation, result -> {
+            if (result == ButtonType.OK && repository.containsProject(project)) {
+                // 사용자가 '확인'을 선택했고 그 사이에 다른 다이얼로그에서 삭제되지 않은 경우
 
-            // allTasks에서 해당 프로젝트의 작업들을 제거
-            ProjectManager.getAllTasks().removeIf(task -> task.getProjectName().equals(project.getName()));
+                // 저장소에서 프로젝트와 해당 프로젝트의 작업들을 제거
+                repository.deleteProject(project);
 
-            // ObservableList에서 프로젝트 제거
-            projects.remove(project);
-
-            // 사용자에게 피드백 제공
-            showPopup("삭제", "삭제 되었습니다..!");
-
-            // 프로젝트 목록 업데이트
-            updateProjectList();
-            reloadMainScene();
-        }
-    }
-
-    /**
-     * 메인 씬을 다시 불러오는 메서드
-     */
-    private void reloadMainScene() {
-        try {
-            // 메인 씬을 다시 로드
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("TodoMain.fxml"));
-            Parent mainScene = loader.load();
-
-            // 현재 스테이지를 얻어옴
-            Stage stage = (Stage) tm_btn.getScene().getWindow();
-
-            // 새로운 씬을 설정
-            Scene scene = new Scene(mainScene);
-            stage.setScene(scene);
-
-            // 컨트롤러 초기화
-            TodoMainController mainController = loader.getController();
-            mainController.initialize(null, null); // 필요에 따라 초기화 파라미터 설정
-
-            // 씬을 보여줌
-            stage.show();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-    }
-
-    /**
-     * 모든 프로젝트의 작업들의 마감 기한을 확인하고, 마감일에 따라 팝업 메시지를 표시하는 메서드
-     */
-    private void checkAllDeadlines() {
-        LocalDate today = LocalDate.now();
-
-        // 모든 프로젝트를 반복하며 작업들의 마감 기한 확인
-        for (ProjectManager project : projects) {
-            for (String task : project.getTasks()) {
-                // 작업의 마감일을 가져옴
-                LocalDate dueDate = todoTaskController.getDueDate(todoTaskController.getCurrentProjectName(), task);
-
-                if (dueDate != null) {
-                    if (dueDate.isEqual(today.plusDays(1))) {
-                        // 마감일이 하루 남았을 경우
-                        String message = String.format("작업 '%s'의 마감 기한이 하루 남았습니다.", task);
-                        Platform.runLater(() -> showPopup("마감 임박", message));
-                    } else if (dueDate.isEqual(today)) {
-                        // 마감일이 오늘인 경우
-                        String message = String.format("작업 '%s'의 마감 기한이 오늘입니다!", task);
-                        Platform.runLater(() -> showPopup("마감일", message));
-                    }
-                }
+                // 사용자에게 피드백 제공 (목록은 저장소의 목록을 그대로 사용하므로 삭제한 항목만 빠짐)
+                notifications.notify("삭제", "삭제 되었습니다..!");
             }
-        }
+        });
     }
 
     /**
@@ -349,7 +278,7 @@ public class TodoMainController implements Initializable {
 
         // 프로젝트가 선택되지 않았을 경우 에러 메시지를 표시
         if (selectedProject == null) {
-            showPopup("오류", "프로젝트를 선택하세요..!");
+            notifications.notify("오류", "프로젝트를 선택하세요..!");
             return;
         }
 
@@ -369,16 +298,15 @@ public class TodoMainController implements Initializable {
         ButtonType deleteButton = new ButtonType("삭제"); // 삭제 버튼 추가
         alert.getButtonTypes().setAll(editButton, deleteButton, ButtonType.CANCEL); // 취소 버튼 추가
 
-        Optional<ButtonType> result = alert.showAndWait();
-        if (result.isPresent()) {
-            if (result.get() == editButton) {
+        notifications.ask(alert, result -> {
+            if (result == editButton) {
                 // "프로젝트 이름 수정" 버튼이 선택된 경우
                 editProjectName(selectedProject);
-            } else if (result.get() == deleteButton) {
+            } else if (result == deleteButton) {
                 // "프로젝트 삭제" 버튼이 선택된 경우
                 deleteProject(selectedProject);
             }
-        }
+        });
     }
 
     /**
@@ -396,14 +324,12 @@ public class TodoMainController implements Initializable {
         dialogPane.getStylesheets().add(getClass().getResource("/css/style.css").toExternalForm());
         dialogPane.getStyleClass().add("custom-dialog");
 
-        Optional<String> result = dialog.showAndWait();
-        result.ifPresent(name -> {
+        notifications.ask(dialog, name -> {
             // 프로젝트 이름 중복 검사
             if (isProjectNameExist(name)) {
-                showPopup("중복된 프로젝트", "이미 존재하는 프로젝트 이름입니다.");
+                notifications.notify("중복된 프로젝트", "이미 존재하는 프로젝트 이름입니다.");
             } else {
-                ProjectManager newProject = new ProjectManager(name);
-                projects.add(newProject);
+                repository.addProject(name);
             }
         });
     }
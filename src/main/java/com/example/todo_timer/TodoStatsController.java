@@ -0,0 +1,96 @@
+package com.example.todo_timer;
+
+import javafx.fxml.FXML;
+import javafx.fxml.Initializable;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.StackPane;
+import java.net.URL;
+import java.time.LocalDate;
+import java.util.ResourceBundle;
+
+
+/**
+ * 오늘, 이번 주, 프로젝트별 집중 통계를 표시하는 컨트롤러 클래스
+ * 미리 모아 둔 합계만 읽으므로 기록된 구간 수와 관계없이 바로 표시됨
+ */
+public class TodoStatsController implements Initializable, ViewLifecycle {
+    @FXML
+    private StackPane stats_layout; // 통계 화면 레이아웃
+    @FXML
+    private Label today_label; // 오늘 통계 레이블
+    @FXML
+    private Label week_label; // 이번 주 통계 레이블
+    @FXML
+    private ListView<ProjectManager> projectStatsView; // 프로젝트별 통계 목록
+    @FXML
+    private Button back_btn; // 뒤로 가기 버튼
+
+    // 세션 기록을 미리 모아 둔 통계
+    private final StatisticsRollups rollups = StatisticsRollups.getInstance();
+
+
+    @Override
+    public void initialize(URL location, ResourceBundle resources) {
+        // 프로젝트 통계는 보이는 셀만 합계를 읽어 표시
+        projectStatsView.setCellFactory(lv -> new ListCell<>() {
+            @Override
+            protected void updateItem(ProjectManager project, boolean empty) {
+                super.updateItem(project, empty);
+                if (empty || project == null) {
+                    setText(null);
+                } else {
+                    setText(project.getName() + "\n" + format(rollups.getProject(project)));
+                }
+            }
+        });
+
+        // "뒤로 가기" 버튼을 누르면 오른쪽으로 슬라이드하며 통계 화면을 닫음
+        back_btn.setOnMouseClicked(event ->
+                ViewRouter.getInstance().show("TodoMain.fxml", ViewRouter.TransitionType.SLIDE_OUT));
+    }
+
+    /**
+     * 화면이 표시될 때 오늘과 이번 주 통계를 다시 읽고 프로젝트 통계 셀을 다시 그리는 메서드
+     */
+    @Override
+    public void viewShown() {
+        LocalDate today = LocalDate.now();
+        today_label.setText(format(rollups.getDay(today)));
+        week_label.setText(format(rollups.getWeek(today)));
+        // 화면은 백그라운드 스레드에서 미리 불러올 수 있으므로 저장소 목록은 표시할 때 연결
+        if (projectStatsView.getItems() != TaskRepository.getInstance().getProjects()) {
+            projectStatsView.setItems(TaskRepository.getInstance().getProjects());
+        }
+        projectStatsView.refresh();
+    }
+
+    /**
+     * 합계를 "집중 시간 · 구간 수 · 평균 길이 · 완료 수" 형식의 문자열로 만드는 메서드
+     *
+     * @param totals 합계
+     * @return 표시할 문자열
+     */
+    private static String format(StatisticsRollups.Totals totals) {
+        return "집중 " + formatDuration(totals.getFocusSeconds())
+                + " · " + totals.getFocusSessions() + "회"
+                + " · 평균 " + formatDuration(totals.getAverageFocusSeconds())
+                + " · 완료 " + totals.getCompletedTasks() + "개";
+    }
+
+    /**
+     * 초를 "H시간 M분" 형식의 문자열로 만드는 메서드
+     *
+     * @param seconds 시간 (초)
+     * @return 표시할 문자열
+     */
+    private static String formatDuration(long seconds) {
+        long minutes = seconds / 60;
+        if (minutes < 60) {
+            return minutes + "분";
+        }
+        return minutes / 60 + "시간 " + minutes % 60 + "분";
+    }
+}
@@ -1,28 +1,16 @@
 package com.example.todo_timer;
 
-import javafx.animation.FadeTransition;
-import javafx.animation.KeyFrame;
-import javafx.animation.KeyValue;
-import javafx.animation.Timeline;
-import javafx.application.Platform;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
 import javafx.fxml.Initializable;
-import javafx.scene.Parent;
 import javafx.scene.control.*;
 import javafx.scene.layout.AnchorPane;
-import javafx.scene.layout.StackPane;
-import javafx.scene.text.Font;
-import javafx.util.Duration;
 
-import java.io.IOException;
 import java.net.URL;
 import java.time.LocalDate;
-import java.util.Optional;
 import java.util.ResourceBundle;
 
 
-public class TodoTaskManageController implements Initializable {
+public class TodoTaskManageController implements Initializable, ViewLifecycle {
     @FXML
     private TextField tskName;  // 사용자가 작업 이름을 입력할 수 있는 텍스트 필드
 
@@ -46,7 +34,9 @@ public class TodoTaskManageController implements Initializable {
 
     private final TodoTaskController todoTaskController;  // 작업 관리에 필요한 로직을 담당하는 컨트롤러 인스턴스
 
-    private static String task;  // 현재 선택 또는 작업 중인 작업의 이름
+    private final NotificationCenter notifications = NotificationCenter.getInstance();  // 알림을 토스트로 표시하는 알림 센터
+
+    private static Task task;  // 현재 선택 또는 작업 중인 작업
 
     @FXML
     private Label tskManage_label;
@@ -58,14 +48,20 @@ public class TodoTaskManageController implements Initializable {
         tsk_btn.setOnMouseClicked(event -> loadTodoTask()); // "할 일" 버튼 클릭 이벤트
         save_btn.setOnMouseClicked(event -> saveTask());    // "저장" 버튼 클릭 이벤트
         delete_btn.setOnMouseClicked(event -> deleteTask(task)); // "삭제" 버튼 클릭 이벤트
+    }
 
+    /**
+     * 화면이 표시될 때 선택된 작업의 이름, 마감일, 메모를 입력란에 채우는 메서드
+     */
+    @Override
+    public void viewShown() {
         // 선택된 작업 이름을 텍스트 필드에 설정
-        tskName.setText(task);
+        tskName.setText(task.getName());
         // 마감일 업데이트 메서드 호출
         updateDueDatePicker();
 
-        tskMemo.setText(todoTaskController.getTaskMemo(todoTaskController.getCurrentProjectName(),task));
-        tskManage_label.setText(task);
+        tskMemo.setText(todoTaskController.getTaskMemo(task));
+        tskManage_label.setText(task.getName());
     }
 
     /**
@@ -79,9 +75,9 @@ public class TodoTaskManageController implements Initializable {
     /**
      * 선택된 작업을 설정하는 메서드.
      *
-     * @param task 선택된 작업의 이름
+     * @param task 선택된 작업
      */
-    public void setSelectTask(String task) {
+    public void setSelectTask(Task task) {
         // tskName 필드가 null인 경우 새로운 TextField를 생성하여 할당함
         if (tskName == null) {
             this.tskName = new TextField();
@@ -91,26 +87,10 @@ public class TodoTaskManageController implements Initializable {
     }
 
     /**
-     * TodoTask.fxml 파일을 로드하여 TodoTask 씬을 불러오고 페이드 인 애니메이션을 적용하는 메서드
+     * TodoTask 화면으로 돌아가며 페이드 인 애니메이션을 적용하는 메서드
      */
     public void loadTodoTask() {
-        try {
-            // TodoTask.fxml 파일을 로드하여 새로운 씬을 생성
-            Parent todoTaskScene = FXMLLoader.load(getClass().getResource("TodoTask.fxml"));
-            StackPane root = (StackPane) tskManage_layout.getScene().getRoot();
-
-            // 현재 씬에 새로운 TodoTask 씬 추가
-            root.getChildren().add(todoTaskScene);
-
-            // 새 씬에 페이드 인 애니메이션 적용
-            FadeTransition fadeIn = new FadeTransition(Duration.millis(300), todoTaskScene);
-            fadeIn.setFromValue(0); // 시작 투명도를 0으로 설정 (완전히 투명)
-            fadeIn.setToValue(1); // 종료 투명도를 1로 설정 (완전히 불투명)
-
-            fadeIn.play(); // 애니메이션 실행
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        ViewRouter.getInstance().show("TodoTask.fxml", ViewRouter.TransitionType.FADE_IN);
     }
 
 
@@ -118,12 +98,12 @@ public class TodoTaskManageController implements Initializable {
     /**
      * 선택된 작업을 삭제하는 메서드.
      *
-     * @param selectedTask 삭제할 작업의 이름
+     * @param selectedTask 삭제할 작업
      */
-    public void deleteTask(String selectedTask) {
+    public void deleteTask(Task selectedTask) {
         Alert alert = new Alert(Alert.AlertType.CONFIRMATION); // 타입을 CONFIRMATION으로 설정
         alert.setTitle("삭제 확인");
-        alert.setHeaderText("다음 작업을 삭제하시겠습니까?\n\n" + selectedTask);
+        alert.setHeaderText("다음 작업을 삭제하시겠습니까?\n\n" + selectedTask.getName());
 
         ButtonType deleteButton = new ButtonType("삭제");
         ButtonType cancelButton = new ButtonType("취소", ButtonBar.ButtonData.CANCEL_CLOSE);
@@ -135,12 +115,21 @@ public class TodoTaskManageController implements Initializable {
         dialogPane.getStylesheets().add(getClass().getResource("/css/TodoTimerManage.css").toExternalForm());
         dialogPane.getStyleClass().add("custom-dialog");
 
-        Optional<ButtonType> result = alert.showAndWait();
-        if (result.isPresent() && result.get() == deleteButton) {
-            todoTaskController.deleteTask(task);
-            showPopup("삭제", "삭제 되었습니다..!");
-            loadTodoTask();
-        }
+        // 다이얼로그가 열린 동안 다른 작업의 관리 화면으로 갈 수 있으므로 다이얼로그를 연 작업을 삭제
+        notifications.ask(alert, result -> {
+            if (result != deleteButton) {
+                return;
+            }
+            if (!TaskRepository.getInstance().containsTask(selectedTask)) {
+                notifications.notify("오류", "이미 삭제된 작업입니다.");
+                return;
+            }
+            selectedTask.getProject().deleteTask(selectedTask);
+            notifications.notify("삭제", "삭제 되었습니다..!");
+            if (task == selectedTask) {
+                loadTodoTask(); // 삭제한 작업의 관리 화면이면 작업 목록으로 돌아감
+            }
+        });
     }
 
 
@@ -158,62 +147,43 @@ public class TodoTaskManageController implements Initializable {
         String updatedMemo = tskMemo.getText(); // 수정된 메모 가져오기
 
         // 작업 이름이 변경되고 중복된 경우 처리
-        if (!updatedTask.equals(task) && todoTaskController.isTaskNameExist(updatedTask)) {
-            showPopup("중복된 작업", "이미 존재하는 작업 이름입니다.");
+        if (!updatedTask.equals(task.getName()) && todoTaskController.isTaskNameExist(updatedTask)) {
+            notifications.notify("중복된 작업", "이미 존재하는 작업 이름입니다.");
             return; // 중복된 경우 함수 종료
         }
 
         // 변경 여부 확인
-        boolean isTaskNameChanged = !updatedTask.equals(task);
-        boolean isDueDateChanged = dueDate != null && !dueDate.equals(todoTaskController.getDueDate(todoTaskController.getCurrentProjectName(),task));
-        boolean isMemoChanged = !updatedMemo.equals(todoTaskController.getTaskMemo(todoTaskController.getCurrentProjectName(), task));
+        boolean isTaskNameChanged = !updatedTask.equals(task.getName());
+        boolean isDueDateChanged = dueDate != null && !dueDate.equals(todoTaskController.getDueDate(task));
+        boolean isMemoChanged = !updatedMemo.equals(todoTaskController.getTaskMemo(task));
 
         // 변경된 내용이 있는 경우 처리
         if (isTaskNameChanged || isDueDateChanged || isMemoChanged) {
+            // 메모는 저장에 실패할 수 있으므로 먼저 저장하고, 실패하면 입력한 내용을 그대로 두고 화면에 남음
+            if (isMemoChanged && !todoTaskController.updateTaskMemo(task, updatedMemo)) {
+                return;
+            }
             // 작업 이름이 변경 되었을 경우
             if (isTaskNameChanged) {
-                todoTaskController.updateTask(task, updatedTask);
-                task = updatedTask; // 현재 작업 이름 업데이트
+                todoTaskController.updateTask(task, updatedTask); // 작업 객체의 이름이 바뀌므로 마감일과 메모는 그대로 유지
             } // 마감일이 변경 되었을 경우
             if (isDueDateChanged) {
-                todoTaskController.updateDueDate(todoTaskController.getCurrentProjectName(),task, dueDate);
-            } // 메모가 변경 되었을 경우
-            if (isMemoChanged) {
-                todoTaskController.updateTaskMemo(todoTaskController.getCurrentProjectName(),task, updatedMemo);
+                todoTaskController.updateDueDate(task, dueDate);
             }
 
-            showPopup("저장", "저장 되었습니다..!");
+            notifications.notify("저장", "저장 되었습니다..!");
             loadTodoTask(); // 작업 목록 다시 불러오기
         } else {
-            showPopup("Error", "변경된 내용이 없습니다..!");
+            notifications.notify("Error", "변경된 내용이 없습니다..!");
         }
     }
 
 
-    /**
-     * 팝업 창을 표시하는 메서드.
-     *
-     * @param title   팝업 창 제목
-     * @param message 팝업 메시지
-     */
-    private void showPopup(String title, String message) {
-        // Platform.runLater() 메서드를 사용하여 JavaFX 애플리케이션 스레드에서 실행되도록 작업을 예약하는 데 사용
-        // 이렇게 하면 showAndWait()가 다음 프레임에서 실행되므로 애니메이션이나 레이아웃 처리와 충돌하지 않음
-        Platform.runLater(() -> {
-            Alert alert = new Alert(Alert.AlertType.INFORMATION);
-            alert.setTitle(title);
-            alert.setHeaderText(null);
-            alert.setContentText(message);
-            alert.getDialogPane().getStylesheets().add(getClass().getResource("/css/TodoTimer.css").toExternalForm());
-            alert.showAndWait();
-        });
-    }
-
     /**
      * 마감일 선택 DatePicker를 업데이트하는 메서드
      */
     private void updateDueDatePicker() {
-        LocalDate dueDate = todoTaskController.getDueDate(todoTaskController.getCurrentProjectName(), task);
+        LocalDate dueDate = todoTaskController.getDueDate(task);
         dueDatePicker.setValue(dueDate); // 기존 마감일을 설정
 
         // 현재 날짜 이전의 모든 날짜를 비활성화
@@ -1,27 +1,70 @@
 package com.example.todo_timer;
 
 import javafx.application.Application;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
+import javafx.application.Platform;
 import javafx.scene.Scene;
+import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 
-import java.util.Objects;
+import java.nio.file.Path;
+import java.util.List;
 
 /**
  * ToDo 타이머 애플리케이션의 진입점인 메인 애플리케이션 클래스
  */
 public class TodoTimerApplication extends Application {
+    // 첫 프레임이 그려진 뒤 미리 불러올 화면 (먼저 사용할 화면부터)
+    private static final List<String> PRELOADED_VIEWS =
+            List.of("TodoTimer.fxml", "TodoTask.fxml", "TodoTaskManage.fxml", "TodoStats.fxml");
 
     @Override
     public void start(Stage primaryStage) throws Exception {
-        //Objects.requireNonNull은 getResource("TodoTimer.fxml")의 반환값이 null이면 예외를 발생시키므로,
-        // 리소스가 없는 경우에는 예외가 발생
-        Parent root = FXMLLoader.load(Objects.requireNonNull(getClass().getResource("TodoMain.fxml")));
+        StartupMetrics.mark("fx-start");
+
+        // 저장된 프로젝트와 작업을 불러오고 이후의 변경 사항을 기록
+        Path directory = WorkspacePersistence.getDefaultDirectory();
+        WorkspacePersistence.open(directory);
+        StartupMetrics.mark("workspace");
+
+        // 화면은 루트 StackPane 하나에 번갈아 올리며, 각 화면은 처음 사용할 때 한 번만 불러옴
+        StackPane root = new StackPane();
+        ViewRouter router = ViewRouter.getInstance();
+        router.attach(root);
+        router.show("TodoMain.fxml", ViewRouter.TransitionType.NONE);
+        StartupMetrics.mark("main-view");
         primaryStage.setTitle("ToDo 타이머");
         primaryStage.setScene(new Scene(root));
         primaryStage.show();
+
+        // 첫 프레임이 그려진 뒤 나머지 화면을 백그라운드에서 미리 불러오므로 첫 화면과 경쟁하지 않음
+        // CDS 아카이브를 만드는 학습 실행(todo.timer.trainingRun)이면 미리 불러오기가 끝난 뒤 종료
+        StartupMetrics.watchFirstFrame(primaryStage.getScene(), directory,
+                () -> router.preload(PRELOADED_VIEWS, () -> {
+                    StartupMetrics.mark(StartupMetrics.PRELOAD);
+                    StartupMetrics.report(directory);
+                    if (Boolean.getBoolean("todo.timer.trainingRun")) {
+                        Platform.exit();
+                    }
+                }));
+
+        // 알림 토스트와 다이얼로그는 주 창 위에 띄움
+        NotificationCenter.getInstance().attach(primaryStage);
+
+        // Ctrl(Cmd)+Shift+P로 성능 HUD를 켜고 끄며, 루트에 화면이 쌓이면 경고
+        PerformanceHud.getInstance().install(primaryStage, root);
+
+        // 마감 기한 알림은 알림 시각이 되면 백그라운드에서 보냄
+        DeadlineReminderService.getInstance().start();
     }
+
+    @Override
+    public void stop() {
+        DeadlineReminderService.getInstance().stop();
+
+        // 기록되지 않은 변경 사항을 저장하고 저널을 닫음
+        WorkspacePersistence.close();
+    }
+
     public static void main(String[] args) {
         launch(args);
     }
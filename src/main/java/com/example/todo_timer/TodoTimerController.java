@@ -2,32 +2,29 @@ package com.example.todo_timer;
 
 import javafx.animation.*;
 import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.css.PseudoClass;
 import javafx.event.EventHandler;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
 import javafx.fxml.Initializable;
-import javafx.scene.Parent;
 import javafx.scene.control.*;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.AnchorPane;
-import javafx.scene.layout.Background;
-import javafx.scene.layout.BackgroundFill;
-import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Arc;
 import javafx.scene.text.Text;
-import javafx.util.Duration;
 
-import java.io.IOException;
 import java.net.URL;
-import java.util.Optional;
+import java.util.HashSet;
 import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 
 /**
  * ToDo 타이머 애플리케이션의 컨트롤러 클래스
  */
-public class TodoTimerController implements Initializable {
+public class TodoTimerController implements Initializable, ViewLifecycle {
 
     @FXML
     private Text timerText;  // 타이머 시간을 표시하는 Text
@@ -46,11 +43,19 @@ public class TodoTimerController implements Initializable {
     @FXML
     private Button timerSetting_btn; // 타이머 시간 설정 버튼
 
-    private Timeline timer;  // JavaFX의 Timeline 클래스를 사용한 타이머 인스턴스. 작업 시간을 측정하고 업데이트하는 데 사용
-    private int minutes = 25;  // 타이머의 초기 분 설정. 기본값은 25분
-    private int seconds = 0;  // 타이머의 초기 초 설정. 기본값은 0초
-    private boolean isPaused = false;  // 타이머의 일시정지 상태를 나타내는 플래그. 일시정지 상태인 경우 true로 설정
-    private boolean isRest = false;  // 타이머의 휴식 상태를 나타내는 플래그
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final int MAX_LABEL_SECONDS = 60 * 60; // 미리 만들어 둘 시간 문자열의 범위 (최대 타이머 시간 60분)
+    private static final String[] TIME_LABELS = createTimeLabels(); // 남은 초별 "MM:SS" 문자열
+    private static final PseudoClass REST_PSEUDO_CLASS = PseudoClass.getPseudoClass("rest"); // 휴식 구간 테마 상태
+
+    private AnimationTimer timer;  // 실행 중에 매 프레임마다 선택된 타이머의 남은 시간을 그리는 AnimationTimer
+    private long displayedSecond = -1;  // 현재 표시 중인 남은 초, 바뀔 때만 텍스트를 갱신
+    private double displayedArcLength = Double.NaN;  // 현재 표시 중인 아크 길이
+    private final TimerService timerService = TimerService.getInstance();  // 작업별 타이머를 실행하는 서비스
+    private final NotificationCenter notifications = NotificationCenter.getInstance();  // 알림을 토스트로 표시하는 알림 센터
+    private final TimerService.Countdown freeCountdown = timerService.createTimer();  // 작업이 없을 때 사용하는 타이머
+    private final Set<TimerService.Countdown> usedCountdowns = new HashSet<>();  // 이 화면에서 사용한 타이머
+    private TimerService.Countdown countdown;  // 초이스 박스에서 선택된 작업의 타이머
     private int newMinutes = 25; // 변경된 작업 타이머 시간
     private int newRestMinutes = 5; // 변경된 휴식 타이머 시간
 
@@ -75,7 +80,7 @@ public class TodoTimerController implements Initializable {
         main_btn.setOnMouseClicked(new EventHandler<MouseEvent>() {
             @Override
             public void handle(MouseEvent event) {
-                if (timer.getStatus().equals(Timeline.Status.RUNNING) && !isPaused) {
+                if (isAnyTimerRunning()) {
                     // 타이머가 실행 중일 때 확인 창을 표시
                     Alert confirmAlert = new Alert(Alert.AlertType.CONFIRMATION);
                     confirmAlert.setTitle("타이머 실행 중");
@@ -88,12 +93,13 @@ public class TodoTimerController implements Initializable {
                     dialogPane.getStyleClass().add("custom-dialog");
 
                     // 확인 및 취소 버튼 설정
-                    Optional<ButtonType> result = confirmAlert.showAndWait();
-                    if (result.isPresent() && result.get() == ButtonType.OK) {
-                        // 사용자가 '확인'을 선택한 경우
-                        loadMainScene(); // 메인 홈으로 이동하는 메소드
-                    }
-                    // '취소'를 선택하거나 창을 닫으면 아무것도 하지 않음
+                    notifications.ask(confirmAlert, result -> {
+                        if (result == ButtonType.OK) {
+                            // 사용자가 '확인'을 선택한 경우
+                            loadMainScene(); // 메인 홈으로 이동하는 메소드
+                        }
+                        // '취소'를 선택하거나 창을 닫으면 아무것도 하지 않음
+                    });
                 } else {
                     // 타이머가 실행 중이 아닐 때 메인 홈으로 바로 이동
                     loadMainScene(); // 메인 홈으로 이동하는 메소드
@@ -101,34 +107,28 @@ public class TodoTimerController implements Initializable {
             }
 
             private void loadMainScene() {
-                // 여기에 메인 홈으로 이동하는 코드를 작성
-                Parent todoMainScene;
-                try {
-                    todoMainScene = FXMLLoader.load(getClass().getResource("TodoMain.fxml"));
-                } catch (IOException e) {
-                    throw new RuntimeException(e);
+                // 이 화면에서 시작한 타이머를 모두 초기화
+                timer.stop();
+                for (TimerService.Countdown used : usedCountdowns) {
+                    used.setListener(null);
+                    timerService.cancel(used);
                 }
-                StackPane root = (StackPane) timer_layout.getScene().getRoot();
-                todoMainScene.setScaleX(3); // 초기 스케일을 크게 설정
-                todoMainScene.setScaleY(3); // 초기 스케일을 크게 설정
-                root.getChildren().add(todoMainScene);
-
-                // 새 씬(메인 홈)에 줌 아웃 애니메이션 적용
-                ScaleTransition zoomOut = new ScaleTransition(Duration.millis(300), todoMainScene);
-                zoomOut.setToX(1); // 최종적으로 정상 크기로
-                zoomOut.setToY(1); // 최종적으로 정상 크기로
-                zoomOut.play(); // 애니메이션 실행
+                usedCountdowns.clear();
+                // 메인 홈을 줌 아웃 애니메이션으로 표시
+                ViewRouter.getInstance().show("TodoMain.fxml", ViewRouter.TransitionType.ZOOM_OUT);
             }
         });
 
-        // 할 일 선택 상자에 할 일 목록을 설정합니다.
-            taskChoiceBox.setItems(ProjectManager.getAllTasks());
-            // 선택 상자의 기본 선택을 첫 번째 항목으로 설정
-            taskChoiceBox.getSelectionModel().selectFirst();
-
         // 타이머 초기화
         initializeTimer();
 
+        // 선택된 작업이 바뀌면 그 작업의 타이머를 화면에 표시
+        taskChoiceBox.valueProperty().addListener((observable, oldTask, newTask) -> {
+            if (newTask != null) {
+                selectCountdown(newTask);
+            }
+        });
+
         // #FFD8D8 색상으로 아크 색상 변경
         timerArc.setFill(color); // 아크 색상 설정
         // 타이머 텍스트를 앞 쪽으로 오게 함
@@ -136,56 +136,153 @@ public class TodoTimerController implements Initializable {
 
     }
 
+    /**
+     * 화면이 표시될 때 할 일 목록을 다시 채우고 선택된 작업의 타이머를 표시하는 메서드
+     */
+    @Override
+    public void viewShown() {
+        // 할 일 선택 상자에 할 일 목록을 설정합니다.
+        taskChoiceBox.setItems(FXCollections.observableArrayList(TaskRepository.getInstance().getActiveTasks()));
+        // 재시작 후 이어서 진행 중인 작업이 있으면 그 작업을, 없으면 첫 번째 항목을 기본으로 선택
+        Task resumedTask = TimerCheckpoint.getInstance().takeResumedTask();
+        if (resumedTask != null && taskChoiceBox.getItems().contains(resumedTask)) {
+            taskChoiceBox.getSelectionModel().select(resumedTask);
+            notifications.notify("타이머 복원", String.format("작업 '%s'의 타이머를 이어서 진행합니다.", resumedTask.getName()));
+        } else {
+            taskChoiceBox.getSelectionModel().selectFirst();
+        }
+        selectCountdown(taskChoiceBox.getValue());
+    }
+
+    /**
+     * 화면이 가려지면 매 프레임 그리던 AnimationTimer를 멈추는 메서드
+     * 타이머 자체는 TimerService에서 계속 진행되므로 화면 갱신만 멈춤
+     */
+    @Override
+    public void viewHidden() {
+        timer.stop();
+    }
+
     /**
      * 타이머를 초기화하는 메서드.
-     * 1초 간격으로 이벤트를 실행하는 Timeline을 생성하고, 타이머를 무한히 반복하도록 설정합니다.
-     * 타이머 이벤트에서는 일시정지 상태가 아니라면 타이머를 업데이트하고, 시간이 종료되면 휴식 또는 작업 타이머를 시작합니다.
+     * JavaFX 펄스마다 호출되는 AnimationTimer를 생성하여 선택된 타이머의 남은 시간을 화면에 반영합니다.
+     * 구간이 끝나는 시점은 TimerService가 알려 주므로 화면에 보이지 않는 타이머도 휴식 또는 작업 타이머로 넘어갑니다.
      */
     private void initializeTimer() {
         setupDonutCircle();
-        // 타이머 초기화: 1초 간격으로 이벤트를 실행하는 Timeline 생성
-        timer = new Timeline(new KeyFrame(Duration.seconds(1), event -> {
-            // 타이머가 일시정지 상태가 아닌 경우에만 처리
-            if (!isPaused) {
-                updateTimerDisplay();  // 타이머 디스플레이 업데이트
-
-                // 작업 타이머가 종료된 경우
-                if (minutes == 0 && seconds == 0) {
-                    if (!isRest) {  // 현재 휴식 중이 아닌 경우
-                        showPopup("휴식 시간입니다.", newRestMinutes +"분 동안 휴식하세요.");
-                        startRestTimer();  // 휴식 타이머 시작
-                    }
-                    else {
-                        // 휴식 타이머가 종료된 경우
-                        showPopup("작업을 시작하세요.", newMinutes + "분 동안 집중하세요.");
-                        startWorkTimer();  // 작업 타이머 시작
-                    }
-                } else {
-                    decrementTime();  // 타이머 시간 감소
-                }
+        // 타이머 초기화: 매 프레임 남은 시간을 화면에 반영하는 AnimationTimer 생성
+        timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                updateTimerDisplay();
             }
-        }));
+        };
+    }
 
-        timer.setCycleCount(Timeline.INDEFINITE); // 타이머를 무한히 반복하도록 설정
+    /**
+     * 0초부터 MAX_LABEL_SECONDS초까지의 "MM:SS" 문자열을 미리 만드는 메서드
+     * 프레임마다 문자열을 포맷하지 않고 표에서 꺼내 쓰기 위해 사용
+     *
+     * @return 남은 초를 위치로 하는 시간 문자열 배열
+     */
+    private static String[] createTimeLabels() {
+        String[] labels = new String[MAX_LABEL_SECONDS + 1];
+        for (int second = 0; second <= MAX_LABEL_SECONDS; second++) {
+            labels[second] = String.format("%02d:%02d", second / 60, second % 60);
+        }
+        return labels;
     }
 
     /**
-     * 타이머 텍스트를 업데이트하는 메서드
+     * 작업의 타이머를 화면에 표시할 타이머로 선택하는 메서드
+     * 처음 선택한 타이머는 작업 시간으로 설정하고, 구간이 끝나면 알림을 받도록 리스너를 등록
+     * 재시작 후 되돌린 타이머는 진행한 시간을 그대로 두고, 화면을 열기 전에 끝났으면 바로 다음 구간으로 넘김
+     *
+     * @param task 선택된 작업, 작업이 없으면 null
      */
-    private void updateTimerDisplay() {
-        // 타이머 텍스트 업데이트
-        timerText.setText(String.format("%02d:%02d", minutes, seconds));
+    private void selectCountdown(Task task) {
+        countdown = task != null ? timerService.getTimer(task) : freeCountdown;
+        if (usedCountdowns.add(countdown)) {
+            if (!countdown.isRunning() && !countdown.isRest()
+                    && countdown.getRemainingNanos() == countdown.getDurationNanos()) {
+                timerService.reset(countdown, TimeUnit.MINUTES.toNanos(newMinutes));
+            }
+            // 리스너는 스케줄러 스레드에서 호출되므로 JavaFX 애플리케이션 스레드로 넘김
+            countdown.setListener(expired -> Platform.runLater(() -> onCountdownExpired(expired)));
+            if (countdown.isRunning() && countdown.getRemainingNanos() == 0) {
+                TimerService.Countdown expired = countdown; // 리스너를 등록하기 전에 끝난 타이머
+                Platform.runLater(() -> onCountdownExpired(expired));
+            }
+        }
 
-        // Arc 업데이트
-        double totalSeconds = 60 * 60; // 전체 작업 시간 (예: 25분)
-        double elapsedSeconds = (60 - minutes) * 60 + (60 - seconds); // 경과 시간
-        double startAngle = 90; // 시작 각도를 항상 90도로 유지
-        timerArc.setStartAngle(startAngle);
+        btn_start_pause.setText(countdown.isRunning() ? "PAUSE" : "START");
+        applyTheme(countdown.isRest());
+        updateTimerDisplay();
+        if (countdown.isRunning()) {
+            timer.start();
+        } else {
+            timer.stop();
+        }
+    }
 
-        // 아크의 길이 업데이트 (0에서부터 증가)
-        double length = (360.0 * (elapsedSeconds / totalSeconds))- 6;
+    /**
+     * 타이머의 현재 구간이 끝났을 때 다음 구간을 시작하는 메서드
+     * 작업 구간이 끝나면 휴식 타이머를, 휴식 구간이 끝나면 작업 타이머를 시작
+     *
+     * @param expired 구간이 끝난 타이머
+     */
+    private void onCountdownExpired(TimerService.Countdown expired) {
+        if (!expired.isRunning()) {
+            return; // 알림이 전달되는 동안 정지된 타이머
+        }
+        if (!expired.isRest()) {  // 현재 휴식 중이 아닌 경우
+            notifications.notify("휴식 시간입니다.", newRestMinutes +"분 동안 휴식하세요.");
+            startRestTimer(expired);  // 휴식 타이머 시작
+        }
+        else {
+            // 휴식 타이머가 종료된 경우
+            notifications.notify("작업을 시작하세요.", newMinutes + "분 동안 집중하세요.");
+            startWorkTimer(expired);  // 작업 타이머 시작
+        }
+    }
 
-        timerArc.setLength(length);
+    /**
+     * 이 화면에서 사용한 타이머 중 실행 중인 타이머가 있는지 확인하는 메서드
+     *
+     * @return 실행 중인 타이머가 있으면 true
+     */
+    private boolean isAnyTimerRunning() {
+        for (TimerService.Countdown used : usedCountdowns) {
+            if (used.isRunning()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 타이머 텍스트와 아크를 업데이트하는 메서드
+     * 매 프레임 호출되므로 객체를 만들지 않고, 표시 값이 바뀐 노드만 갱신
+     */
+    private void updateTimerDisplay() {
+        long remainingNanos = countdown.getRemainingNanos();
+        long durationNanos = countdown.getDurationNanos();
+
+        // 표시할 초가 바뀐 경우에만 미리 만든 문자열로 텍스트 업데이트
+        long remainingSeconds = (remainingNanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND;
+        if (remainingSeconds != displayedSecond) {
+            displayedSecond = remainingSeconds;
+            timerText.setText(remainingSeconds <= MAX_LABEL_SECONDS
+                    ? TIME_LABELS[(int) remainingSeconds]
+                    : String.format("%02d:%02d", remainingSeconds / 60, remainingSeconds % 60));
+        }
+
+        // 아크의 길이 업데이트 (현재 구간의 경과 비율만큼 0에서부터 증가)
+        double length = durationNanos > 0 ? 360.0 * (durationNanos - remainingNanos) / durationNanos : 0;
+        if (length != displayedArcLength) {
+            displayedArcLength = length;
+            timerArc.setLength(length);
+        }
     }
 
     /**
@@ -195,19 +292,7 @@ public class TodoTimerController implements Initializable {
      */
     private void setupDonutCircle() {
         timerArc.setStartAngle(90); // 시작 각도를 90도로 설정 (상단 중앙에서 시작)
-        timerArc.setLength(210);      // 아무런 시각적 진행도를 가지지 않는 상태로 초기화
-    }
-
-    /**
-     * 시간을 감소시키는 메서드
-     */
-    private void decrementTime() {
-        if (seconds == 0) {
-            minutes--;
-            seconds = 59;
-        } else {
-            seconds--;
-        }
+        timerArc.setLength(0);      // 아무런 시각적 진행도를 가지지 않는 상태로 초기화
     }
 
     /**
@@ -217,8 +302,8 @@ public class TodoTimerController implements Initializable {
     @FXML
     private void startTimer() {
         // 타이머 시작 메서드
-        timer.play();
-        isPaused = false;
+        timerService.start(countdown);
+        timer.start();
     }
 
 
@@ -228,7 +313,7 @@ public class TodoTimerController implements Initializable {
      */
     @FXML
     private void startPauseTimer() {
-        if (timer.getStatus().equals(Timeline.Status.RUNNING) && !isPaused) {
+        if (countdown.isRunning()) {
             pauseTimer();
         } else {
             startTimer();
@@ -238,13 +323,15 @@ public class TodoTimerController implements Initializable {
 
     /**
      * 타이머를 일시정지하는 메서드
-     * 타이머를 일시정지 상태로 변경하고, 사용자에게 계속 진행할지 여부를 묻는 다이얼로그를 표시
+     * 남은 시간을 저장하고, 사용자에게 계속 진행할지 여부를 묻는 다이얼로그를 표시
      * 사용자가 "계속"을 선택한 경우 타이머를 계속 진행하며,
      * "종료"를 선택하거나 다이얼로그를 닫은 경우 타이머를 정지
      */
     @FXML
     private void pauseTimer() {
-        isPaused = true; // 타이머 일시정지 상태로 변경
+        // 남은 시간을 저장하므로 다이얼로그가 떠 있는 동안에는 시간이 줄지 않음
+        timerService.pause(countdown);
+        timer.stop();
 
 
         // 사용자에게 선택을 받는 다이얼로그 표시
@@ -264,15 +351,19 @@ public class TodoTimerController implements Initializable {
         ButtonType stopButton = new ButtonType("종료", ButtonBar.ButtonData.CANCEL_CLOSE);
         alert.getButtonTypes().setAll(resumeButton, stopButton);
 
-        Optional<ButtonType> result = alert.showAndWait();
-
-        // 사용자의 선택에 따라 처리
-        if (result.isPresent() && result.get() == resumeButton) {
-            startTimer(); // "계속" 버튼이 선택된 경우 타이머 계속 진행
-        } else {
-            isRest = false;
-            stopTimer(); // "종료" 버튼이나 다이얼로그를 닫은 경우 타이머 정지
-        }
+        // 다이얼로그가 떠 있는 동안 다른 작업을 고르거나 시작 버튼으로 다시 시작했으면 선택을 무시
+        TimerService.Countdown paused = countdown;
+        notifications.ask(alert, result -> {
+            if (countdown != paused || paused.isRunning()) {
+                return;
+            }
+            // 사용자의 선택에 따라 처리
+            if (result == resumeButton) {
+                startTimer(); // "계속" 버튼이 선택된 경우 타이머 계속 진행
+            } else {
+                stopTimer(); // "종료" 버튼이나 다이얼로그를 닫은 경우 타이머 정지
+            }
+        });
     }
 
     /**
@@ -283,72 +374,49 @@ public class TodoTimerController implements Initializable {
     private void stopTimer() {
         // 타이머 종료 메서드
         timer.stop();
-        minutes = newMinutes;
-        seconds = 0;
-        isPaused = false;
+        timerService.cancel(countdown);
+        timerService.reset(countdown, TimeUnit.MINUTES.toNanos(newMinutes));
         btn_start_pause.setText("START");
         updateTimerDisplay();
-
-       // 씬의 배경 색상을 #FFD8D8로 변경
-        timer_layout.setBackground(new Background(new BackgroundFill(Color.rgb(255, 216, 216), null, null)));
-
-        timerSetting_btn.setStyle("-fx-background-color:#c98888; -fx-background-radius: 10; -fx-border-color: #865353; -fx-border-radius: 10;"); // 휴식 타이머가 시작될 때의 배경 색상으로 설정
-        btn_start_pause.setStyle("-fx-background-color: #c98888; -fx-background-radius: 10; -fx-border-color: #865353; -fx-border-radius: 10;"); // 휴식 타이머가 시작될 때의 배경 색상으로 설정
-        main_btn.setStyle("-fx-background-color: #c98888; -fx-background-radius: 50; -fx-border-color: #865353; -fx-border-radius: 50;"); // 휴식 타이머가 시작될 때의 배경 색상으로 설정
-        taskChoiceBox.setStyle("-fx-background-color:  #c98888; -fx-background-radius: 10; -fx-border-color: #865353; -fx-border-radius: 10;");
-        // 색상을 #6b0404로 설정
-        timerText.setFill(Color.web("#6b0404"));
-        timer_label.setTextFill(Color.web("#c98888"));
-
-
+        applyTheme(false);
     }
 
     /**
      * 작업 타이머를 시작하는 메서드.
      * 작업 시간 25분 설정
+     *
+     * @param target 작업 구간을 시작할 타이머
      */
-    private void startWorkTimer() {
-        minutes = newMinutes;
-        seconds = 0;
-        isPaused = false;
-        isRest = false;
-
-        // 씬의 배경 색상을 #FFD8D8로 변경
-        timer_layout.setBackground(new Background(new BackgroundFill(Color.rgb(255, 216, 216), null, null)));
-
-        // 휴식 타이머가 시작될 때의 배경 색상으로 설정
-        timerSetting_btn.setStyle("-fx-background-color:#c98888; -fx-background-radius: 10; -fx-border-color: #865353; -fx-border-radius: 10;"); // 휴식 타이머가 시작될 때의 배경 색상으로 설정
-        btn_start_pause.setStyle("-fx-background-color: #c98888; -fx-background-radius: 10; -fx-border-color: #865353; -fx-border-radius: 10;"); // 휴식 타이머가 시작될 때의 배경 색상으로 설정
-        main_btn.setStyle("-fx-background-color: #c98888; -fx-background-radius: 50; -fx-border-color: #865353; -fx-border-radius: 50;"); // 휴식 타이머가 시작될 때의 배경 색상으로 설정
-        taskChoiceBox.setStyle("-fx-background-color:  #c98888; -fx-background-radius: 10; -fx-border-color: #865353; -fx-border-radius: 10;");
-        // 색상을 #6b0404로 설정
-        timerText.setFill(Color.web("#6b0404"));
-        timer_label.setTextFill(Color.web("#c98888"));
+    private void startWorkTimer(TimerService.Countdown target) {
+        // 휴식 타이머의 마감 시각부터 이어서 계산
+        timerService.startNext(target, TimeUnit.MINUTES.toNanos(newMinutes), false);
+        if (target == countdown) {
+            applyTheme(false);
+        }
     }
 
     /**
      * 휴식 타이머를 시작하는 메서드.
      * 휴식 시간 5분 설정
+     *
+     * @param target 휴식 구간을 시작할 타이머
      */
-    private void startRestTimer() {
-        minutes = newRestMinutes;
-        seconds = 0;
-        isPaused = false;
-        isRest = true;
-
-        //아이디 지정
-        taskChoiceBox.setId("custom-choice-box");
-        taskChoiceBox.getStylesheets().add(getClass().getResource("/css/rest.css").toExternalForm());
-
-        // 씬의 배경 색상을 #B7F0B1로 변경
-        timer_layout.setBackground(new Background(new BackgroundFill(Color.rgb(183, 240, 177), null, null)));
-
-        timerSetting_btn.setStyle("-fx-background-color:#47C83E; -fx-background-radius: 10; -fx-border-color: #0B7903; -fx-border-radius: 10;");
-        btn_start_pause.setStyle("-fx-background-color:#47C83E; -fx-background-radius: 10; -fx-border-color: #0B7903; -fx-border-radius: 10;");
-        main_btn.setStyle("-fx-background-color: #47C83E; -fx-border-color: #0B7903; -fx-border-radius: 50; -fx-background-radius: 50;");
-        taskChoiceBox.setStyle("-fx-background-color:  #47C83E; -fx-background-radius: 10; -fx-border-color: #0B7903; -fx-border-radius: 10;");
-        timerText.setFill(Color.web("#005C00"));
-        timer_label.setTextFill(Color.web("#47C83E"));
+    private void startRestTimer(TimerService.Countdown target) {
+        // 작업 타이머의 마감 시각부터 이어서 계산
+        timerService.startNext(target, TimeUnit.MINUTES.toNanos(newRestMinutes), true);
+        if (target == countdown) {
+            applyTheme(true);
+        }
+    }
+
+    /**
+     * 작업 또는 휴식 구간의 테마를 화면에 적용하는 메서드
+     * 두 테마는 TimerTheme.css에 미리 정의되어 있으므로 루트의 :rest 상태만 바꿈
+     *
+     * @param rest 휴식 구간이면 true
+     */
+    private void applyTheme(boolean rest) {
+        timer_layout.pseudoClassStateChanged(REST_PSEUDO_CLASS, rest);
     }
 
 
@@ -358,8 +426,8 @@ public class TodoTimerController implements Initializable {
      */
     @FXML
     private void openTimerSettingDialog() {
-        if (timer.getStatus().equals(Timeline.Status.RUNNING)){
-            showPopup("타이머 실행 중","타이머 실행 중엔 타이머 시간을 변경할 수 없습니다..!");
+        if (countdown.isRunning()){
+            notifications.notify("타이머 실행 중","타이머 실행 중엔 타이머 시간을 변경할 수 없습니다..!");
         }
         else {
             // 다이얼로그에 타이머 및 휴식 시간 설정 버튼을 포함하는 커스텀 다이얼로그를 생성합니다.
@@ -386,16 +454,13 @@ public class TodoTimerController implements Initializable {
             dialogPane.getStyleClass().add("custom-dialog");
 
             // 사용자가 어떤 설정을 선택했는지 확인
-            dialog.setResultConverter(dialogButton -> {
+            notifications.ask(dialog, dialogButton -> {
                 if (dialogButton == timerSettingButtonType) {
                     openTimerInputDialog();
                 } else if (dialogButton == restSettingButtonType) {
                     openRestInputDialog();
                 }
-                return null;
             });
-
-            dialog.showAndWait();
         }
 
     }
@@ -417,20 +482,18 @@ public class TodoTimerController implements Initializable {
         dialogPane.getStyleClass().add("custom-dialog");
 
         // 다이얼로그를 표시하고 사용자 입력을 처리
-        Optional<String> result = dialog.showAndWait();
-        result.ifPresent(time -> {
+        notifications.ask(dialog, time -> {
             try {
                 newMinutes = Integer.parseInt(time);
                 if (newMinutes >= 1 && newMinutes <= 60) {
                     // 입력된 값이 1 이상인 경우에만 시간을 설정
-                    minutes = newMinutes;
-                    seconds = 0;
+                    timerService.reset(countdown, TimeUnit.MINUTES.toNanos(newMinutes));
                     updateTimerDisplay();
                 } else {
-                    showPopup("오류", "1분에서 60분 사이의 유효한 시간을 입력하세요.");
+                    notifications.notify("오류", "1분에서 60분 사이의 유효한 시간을 입력하세요.");
                 }
             } catch (NumberFormatException e) {
-                showPopup("오류", "유효한 숫자를 입력하세요.");
+                notifications.notify("오류", "유효한 숫자를 입력하세요.");
             }
         });
     }
@@ -453,43 +516,20 @@ public class TodoTimerController implements Initializable {
         dialogPane.getStyleClass().add("custom-dialog");
 
         // 다이얼로그를 표시하고 사용자 입력을 처리
-        Optional<String> result = dialog.showAndWait();
-        result.ifPresent(time -> {
+        notifications.ask(dialog, time -> {
             try {
                 newRestMinutes = Integer.parseInt(time);
-                if (newRestMinutes >= 1 && newRestMinutes <= 30) {
-                    // 입력된 값이 1 이상인 경우에만 휴식 시간을 설정
-                    seconds = 0;
-                } else {
-                    showPopup("오류", "1분에서 25분 사이의 유효한 시간을 입력하세요.");
+                // 입력된 휴식 시간은 다음 휴식 타이머부터 적용
+                if (newRestMinutes < 1 || newRestMinutes > 30) {
+                    notifications.notify("오류", "1분에서 25분 사이의 유효한 시간을 입력하세요.");
                 }
             } catch (NumberFormatException e) {
-                showPopup("오류", "유효한 숫자를 입력하세요.");
+                notifications.notify("오류", "유효한 숫자를 입력하세요.");
             }
         });
     }
 
 
 
-    /**
-     * 팝업 창을 표시하는 메서드.
-     *
-     * @param title   팝업 창 제목
-     * @param message 팝업 메시지
-     */
-    private void showPopup(String title, String message) {
-        // Platform.runLater() 메서드를 사용하여 JavaFX 애플리케이션 스레드에서 실행되도록 작업을 예약하는 데 사용
-        // 이렇게 하면 showAndWait()가 다음 프레임에서 실행되므로 애니메이션이나 레이아웃 처리와 충돌하지 않음
-        Platform.runLater(() -> {
-            Alert alert = new Alert(Alert.AlertType.INFORMATION);
-            alert.setTitle(title);
-            alert.setHeaderText(null);
-            alert.setContentText(message);
-            alert.getDialogPane().getStylesheets().add(getClass().getResource("/css/TodoTimer.css").toExternalForm());
-
-            alert.showAndWait();
-        });
-    }
-
 
 }
\ No newline at end of file
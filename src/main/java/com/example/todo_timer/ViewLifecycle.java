@@ -0,0 +1,22 @@
+package com.example.todo_timer;
+
+/**
+ * ViewRouter가 캐시한 화면이 표시되거나 가려질 때 알림을 받는 컨트롤러 인터페이스
+ * 화면 노드와 컨트롤러는 한 번만 만들어 재사용하므로, 화면에 들어올 때마다 해야 하는 일은 initialize가 아니라 viewShown에서 처리
+ */
+public interface ViewLifecycle {
+
+    /**
+     * 화면이 표시되기 직전에 호출되는 메서드
+     * 처음 불러온 직후에도 호출
+     */
+    default void viewShown() {
+    }
+
+    /**
+     * 다른 화면으로 넘어가는 애니메이션이 끝나 화면이 장면 그래프에서 빠진 뒤 호출되는 메서드
+     * 화면이 보이지 않는 동안 필요 없는 애니메이션이나 리스너를 멈추는 데 사용
+     */
+    default void viewHidden() {
+    }
+}
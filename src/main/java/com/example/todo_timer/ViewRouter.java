@@ -0,0 +1,372 @@
+package com.example.todo_timer;
+
+import javafx.animation.Animation;
+import javafx.animation.FadeTransition;
+import javafx.animation.ParallelTransition;
+import javafx.animation.ScaleTransition;
+import javafx.animation.TranslateTransition;
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.layout.StackPane;
+import javafx.util.Duration;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 화면 전환을 담당하는 클래스
+ * FXML 화면은 처음 사용할 때 한 번만 불러와 컨트롤러와 함께 캐시하고, 이후에는 같은 노드를 다시 사용
+ * 루트 StackPane에는 항상 현재 화면 하나만 남도록, 전환 애니메이션이 끝나면 이전 화면을 빼고 ViewLifecycle.viewHidden을 호출
+ * 캐시는 최근에 사용한 순서로 MAX_CACHED_VIEWS개까지만 유지하고, 넘치면 가장 오래 사용하지 않은 화면부터 버림
+ * 첫 화면을 띄운 뒤에는 다음에 사용할 화면을 백그라운드 스레드에서 미리 불러 둘 수 있음
+ */
+public class ViewRouter {
+    private static final ViewRouter instance = new ViewRouter(); // 애플리케이션 전체에서 공유하는 라우터
+
+    private static final int MAX_CACHED_VIEWS = 4; // 캐시에 유지할 최대 화면 수
+    private static final Duration TRANSITION_DURATION = Duration.millis(300); // 전환 애니메이션 시간
+
+    // 불러온 화면 컨트롤러 (약한 참조이므로 캐시에서 버려진 컨트롤러는 가비지 컬렉션 후 사라짐)
+    private static final Queue<WeakReference<Object>> loadedControllers = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 화면 전환 애니메이션 종류
+     */
+    public enum TransitionType {
+        NONE, // 애니메이션 없이 바로 바꿈
+        ZOOM_IN, // 새 화면이 작은 크기에서 커짐
+        ZOOM_OUT, // 새 화면이 큰 크기에서 작아짐
+        SLIDE_IN, // 새 화면이 오른쪽 바깥에서 들어옴
+        SLIDE_OUT, // 현재 화면이 오른쪽 바깥으로 나가며 아래의 새 화면이 드러남
+        FADE_IN, // 새 화면이 투명한 상태에서 나타남
+        CROSS_FADE // 현재 화면은 사라지고 새 화면은 나타남
+    }
+
+    private final Map<String, View> cache = new LinkedHashMap<>(16, 0.75f, true); // FXML 이름 → 화면 (최근에 사용한 순서)
+    private StackPane host; // 화면을 올려 둘 루트 StackPane
+    private View current; // 현재 화면
+    private View leaving; // 전환 애니메이션이 끝나면 빠질 이전 화면
+    private Animation running; // 진행 중인 전환 애니메이션
+
+
+    /**
+     * ViewRouter의 생성자
+     */
+    private ViewRouter() {
+    }
+
+    /**
+     * ViewRouter 인스턴스를 반환하는 메서드
+     *
+     * @return ViewRouter 인스턴스
+     */
+    public static ViewRouter getInstance() {
+        return instance;
+    }
+
+    /**
+     * 화면을 올려 둘 루트 StackPane을 지정하는 메서드
+     * 애플리케이션이 시작될 때 장면의 루트로 한 번 호출
+     *
+     * @param host 루트 StackPane
+     */
+    public void attach(StackPane host) {
+        this.host = host;
+    }
+
+    /**
+     * 화면을 표시하는 메서드
+     * 캐시에 있으면 그 노드를 그대로 사용하고, 없으면 FXML을 불러와 캐시에 넣음
+     * 진행 중인 전환 애니메이션이 있으면 바로 끝낸 뒤 전환
+     *
+     * @param fxml       표시할 FXML 파일 이름
+     * @param transition 전환 애니메이션 종류
+     */
+    public void show(String fxml, TransitionType transition) {
+        finishTransition();
+        View next = getView(fxml);
+        if (next == current) {
+            next.shown();
+            return;
+        }
+        View previous = current;
+        current = next;
+        reset(next.root);
+        next.shown();
+
+        if (previous == null || transition == TransitionType.NONE) {
+            host.getChildren().setAll(next.root);
+            if (previous != null) {
+                previous.hidden();
+            }
+            return;
+        }
+        if (transition == TransitionType.SLIDE_OUT) {
+            host.getChildren().add(0, next.root); // 나가는 화면 아래에 둠
+        } else {
+            host.getChildren().add(next.root);
+        }
+        leaving = previous;
+        running = createAnimation(transition, next.root, previous.root);
+        running.setOnFinished(event -> finishTransition());
+        running.play();
+    }
+
+    /**
+     * 아직 캐시에 없는 화면을 백그라운드 스레드에서 미리 불러오는 메서드
+     * FXML 해석, 이미지 읽기, 컨트롤러 초기화는 백그라운드 스레드에서 하고, 불러온 화면은 JavaFX 애플리케이션 스레드에서
+     * 한 화면씩 화면 밖 장면에 붙여 CSS와 스킨을 미리 적용한 뒤 캐시에 넣음
+     * 캐시에 남은 자리만큼만 불러오므로 미리 불러오기 때문에 다른 화면이 버려지지는 않음
+     *
+     * @param fxmls  미리 불러올 FXML 파일 이름 (먼저 사용할 화면부터)
+     * @param onDone 모두 끝나면 JavaFX 애플리케이션 스레드에서 호출할 콜백
+     */
+    public void preload(List<String> fxmls, Runnable onDone) {
+        List<String> pending = new ArrayList<>();
+        for (String fxml : fxmls) {
+            if (!cache.containsKey(fxml) && cache.size() + pending.size() < MAX_CACHED_VIEWS) {
+                pending.add(fxml);
+            }
+        }
+        Thread preloader = new Thread(() -> {
+            for (String fxml : pending) {
+                try {
+                    View view = load(fxml);
+                    Platform.runLater(() -> cachePreloaded(fxml, view));
+                } catch (RuntimeException e) {
+                    e.printStackTrace(); // 미리 불러오지 못한 화면은 처음 사용할 때 다시 불러옴
+                }
+            }
+            Platform.runLater(onDone);
+        }, "view-preloader");
+        preloader.setDaemon(true);
+        preloader.start();
+    }
+
+    /**
+     * 미리 불러온 화면에 CSS와 스킨을 적용하고 캐시에 넣는 메서드
+     * 그 사이에 같은 화면을 먼저 불러왔거나 캐시가 찼으면 버림
+     *
+     * @param fxml FXML 파일 이름
+     * @param view 미리 불러온 화면
+     */
+    private void cachePreloaded(String fxml, View view) {
+        if (cache.containsKey(fxml) || cache.size() >= MAX_CACHED_VIEWS) {
+            return;
+        }
+        // 장면에 붙어 있어야 CSS가 적용되므로 화면 밖 장면에 잠시 붙였다가 뗌
+        Scene offscreen = new Scene(view.root);
+        view.root.applyCss();
+        offscreen.setRoot(new Group());
+        cache.put(fxml, view);
+    }
+
+    /**
+     * 캐시에서 화면을 꺼내거나, 없으면 FXML을 불러와 캐시에 넣는 메서드
+     *
+     * @param fxml FXML 파일 이름
+     * @return 화면
+     */
+    private View getView(String fxml) {
+        View view = cache.get(fxml);
+        if (view != null) {
+            return view;
+        }
+        view = load(fxml);
+        cache.put(fxml, view);
+        evict();
+        return view;
+    }
+
+    /**
+     * FXML 파일을 불러와 화면 노드와 컨트롤러를 만드는 메서드
+     * 장면에 붙이기 전이므로 어느 스레드에서든 호출할 수 있음
+     *
+     * @param fxml FXML 파일 이름
+     * @return 화면
+     */
+    private static View load(String fxml) {
+        // 리소스가 없으면 getResource가 null을 반환하므로 파일 이름과 함께 예외를 발생시킴
+        FXMLLoader loader = new FXMLLoader(Objects.requireNonNull(ViewRouter.class.getResource(fxml), fxml));
+        try {
+            Parent root = loader.load();
+            Object controller = loader.getController();
+            if (controller != null) {
+                loadedControllers.add(new WeakReference<>(controller));
+            }
+            return new View(root, controller);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * 아직 가비지 컬렉션되지 않은 화면 컨트롤러 수를 반환하는 메서드
+     * 캐시에서 버린 화면이 어딘가에 붙잡혀 있는지 확인하는 데 사용
+     *
+     * @return 살아 있는 화면 컨트롤러 수
+     */
+    public int getLiveControllerCount() {
+        int count = 0;
+        Iterator<WeakReference<Object>> controllers = loadedControllers.iterator();
+        while (controllers.hasNext()) {
+            if (controllers.next().get() == null) {
+                controllers.remove();
+            } else {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 캐시가 최대 화면 수를 넘으면 가장 오래 사용하지 않은 화면부터 버리는 메서드
+     * 현재 화면과 전환 중인 화면은 버리지 않음
+     */
+    private void evict() {
+        Iterator<View> views = cache.values().iterator();
+        while (cache.size() > MAX_CACHED_VIEWS && views.hasNext()) {
+            View view = views.next();
+            if (view != current && view != leaving) {
+                views.remove();
+            }
+        }
+    }
+
+    /**
+     * 진행 중인 전환 애니메이션을 끝내고 이전 화면을 루트에서 빼는 메서드
+     */
+    private void finishTransition() {
+        if (running == null) {
+            return;
+        }
+        Animation animation = running;
+        running = null;
+        animation.stop();
+
+        View previous = leaving;
+        leaving = null;
+        reset(current.root); // 애니메이션을 중간에 끝낸 경우에도 최종 상태로 맞춤
+        host.getChildren().remove(previous.root);
+        reset(previous.root); // 다시 표시할 때 애니메이션 상태가 남아 있지 않도록 되돌림
+        previous.hidden();
+    }
+
+    /**
+     * 전환 종류에 맞는 애니메이션을 만드는 메서드
+     * 애니메이션의 시작 상태는 여기서 노드에 바로 적용
+     *
+     * @param transition 전환 애니메이션 종류
+     * @param incoming   새 화면 노드
+     * @param outgoing   이전 화면 노드
+     * @return 전환 애니메이션
+     */
+    private Animation createAnimation(TransitionType transition, Node incoming, Node outgoing) {
+        switch (transition) {
+            case ZOOM_IN:
+            case ZOOM_OUT: {
+                double fromScale = transition == TransitionType.ZOOM_IN ? 0 : 3;
+                incoming.setScaleX(fromScale);
+                incoming.setScaleY(fromScale);
+                ScaleTransition zoom = new ScaleTransition(TRANSITION_DURATION, incoming);
+                zoom.setToX(1); // 최종적으로 정상 크기로
+                zoom.setToY(1);
+                return zoom;
+            }
+            case SLIDE_IN: {
+                incoming.setTranslateX(host.getWidth()); // 시작 위치를 화면 오른쪽 바깥으로 설정
+                TranslateTransition slide = new TranslateTransition(TRANSITION_DURATION, incoming);
+                slide.setToX(0);
+                return slide;
+            }
+            case SLIDE_OUT: {
+                TranslateTransition slide = new TranslateTransition(TRANSITION_DURATION, outgoing);
+                slide.setToX(host.getWidth()); // 현재 화면을 오른쪽 바깥으로 보냄
+                return slide;
+            }
+            case FADE_IN:
+                return fade(incoming, 0, 1);
+            case CROSS_FADE:
+                return new ParallelTransition(fade(outgoing, 1, 0), fade(incoming, 0, 1));
+            default:
+                throw new IllegalArgumentException(transition.name());
+        }
+    }
+
+    /**
+     * 투명도를 바꾸는 애니메이션을 만드는 메서드
+     *
+     * @param node 대상 노드
+     * @param from 시작 투명도
+     * @param to   종료 투명도
+     * @return 페이드 애니메이션
+     */
+    private static FadeTransition fade(Node node, double from, double to) {
+        node.setOpacity(from);
+        FadeTransition fade = new FadeTransition(TRANSITION_DURATION, node);
+        fade.setFromValue(from);
+        fade.setToValue(to);
+        return fade;
+    }
+
+    /**
+     * 전환 애니메이션이 바꾼 노드 상태를 기본값으로 되돌리는 메서드
+     *
+     * @param node 대상 노드
+     */
+    private static void reset(Node node) {
+        node.setScaleX(1);
+        node.setScaleY(1);
+        node.setTranslateX(0);
+        node.setOpacity(1);
+    }
+
+    /**
+     * 캐시에 넣어 두는 화면 노드와 컨트롤러를 담는 클래스
+     */
+    private static final class View {
+        private final Parent root; // 화면 노드
+        private final Object controller; // 화면 컨트롤러
+
+
+        /**
+         * View의 생성자
+         *
+         * @param root       화면 노드
+         * @param controller 화면 컨트롤러
+         */
+        private View(Parent root, Object controller) {
+            this.root = root;
+            this.controller = controller;
+        }
+
+        /**
+         * 컨트롤러에 화면이 표시된다고 알리는 메서드
+         */
+        private void shown() {
+            if (controller instanceof ViewLifecycle) {
+                ((ViewLifecycle) controller).viewShown();
+            }
+        }
+
+        /**
+         * 컨트롤러에 화면이 가려졌다고 알리는 메서드
+         */
+        private void hidden() {
+            if (controller instanceof ViewLifecycle) {
+                ((ViewLifecycle) controller).viewHidden();
+            }
+        }
+    }
+}
@@ -0,0 +1,522 @@
+package com.example.todo_timer;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.zip.CRC32;
+
+/**
+ * 작업 공간의 모든 변경 사항을 선행 기록(write-ahead) 저널 파일에 덧붙이는 클래스
+ * 변경 사항은 JavaFX 애플리케이션 스레드에서 바이트 레코드로 만들어 큐에 넣고,
+ * 백그라운드 기록 스레드가 큐에 쌓인 레코드를 한 번에 기록한 뒤 fsync를 한 번만 호출
+ * 스냅샷 요청도 같은 큐로 전달되므로 스냅샷 이전의 레코드가 모두 기록된 다음에 스냅샷이 저장되고,
+ * 저장이 끝나면 저널을 비워 다음 스냅샷까지의 변경 사항만 남김
+ *
+ * 레코드 형식: [본문 길이(int)][본문][본문의 CRC32(int)]
+ * 본문 형식: [순번(long)][종류(byte)][종류별 필드]
+ */
+public class WorkspaceJournal implements WorkspaceListener {
+    static final byte PROJECT_ADDED = 1;
+    static final byte PROJECT_RENAMED = 2;
+    static final byte PROJECT_DELETED = 3;
+    static final byte TASK_ADDED = 4;
+    static final byte TASK_RENAMED = 5;
+    static final byte TASK_COMPLETED = 6;
+    static final byte TASK_RESTORED = 7;
+    static final byte TASK_DELETED = 8;
+    static final byte DUE_DATE_CHANGED = 9;
+    static final byte MEMO_CHANGED = 10;
+    static final byte TASK_COMPLETED_ON = 11; // 완료한 날을 함께 기록하는 완료 레코드, TASK_COMPLETED는 이전 저널을 읽을 때만 사용
+
+    static final long NO_DUE_DATE = Long.MIN_VALUE; // 마감일이 없음을 나타내는 값
+    static final long NO_COMPLETION_DAY = Long.MIN_VALUE; // 완료한 날을 알 수 없음을 나타내는 값
+
+    static final int SNAPSHOT_INTERVAL = 10_000; // 이 수만큼 레코드가 쌓이면 스냅샷을 만들어 저널을 비움
+
+    private static final Object STOP = new Object(); // 기록 스레드를 종료시키는 표시
+
+    private final Path journalFile; // 저널 파일 경로
+    private final SnapshotWriter snapshotWriter; // 스냅샷 요청을 처리하는 객체
+    private final BlockingQueue<Object> queue = new LinkedBlockingQueue<>(); // 기록할 레코드(byte[])와 스냅샷 요청
+    private final Thread writerThread; // 백그라운드 기록 스레드
+
+    private final ByteArrayOutputStream recordBuffer = new ByteArrayOutputStream(); // 레코드 본문을 만드는 버퍼 (FX 스레드 전용)
+    private final DataOutputStream recordOut = new DataOutputStream(recordBuffer);
+    private final CRC32 crc = new CRC32();
+
+    private long lastSequence; // 마지막으로 발급한 레코드 순번
+    private int recordsSinceSnapshot; // 마지막 스냅샷 이후 기록한 레코드 수
+
+    /**
+     * 스냅샷을 파일로 저장하는 역할을 정의하는 인터페이스
+     * 기록 스레드에서 호출됨
+     */
+    interface SnapshotWriter {
+        /**
+         * 스냅샷을 저장하는 메서드
+         *
+         * @param snapshot 저장할 스냅샷
+         * @throws IOException 저장에 실패한 경우
+         */
+        void write(WorkspaceSnapshot snapshot) throws IOException;
+    }
+
+
+    /**
+     * WorkspaceJournal의 생성자
+     *
+     * @param journalFile    저널 파일 경로
+     * @param lastSequence   이미 기록된 마지막 레코드 순번
+     * @param snapshotWriter 스냅샷 요청을 처리하는 객체
+     */
+    WorkspaceJournal(Path journalFile, long lastSequence, SnapshotWriter snapshotWriter) {
+        this.journalFile = journalFile;
+        this.lastSequence = lastSequence;
+        this.snapshotWriter = snapshotWriter;
+        this.writerThread = new Thread(this::runWriter, "workspace-journal");
+        this.writerThread.setDaemon(true);
+    }
+
+    /**
+     * 기록 스레드를 시작하는 메서드
+     */
+    void start() {
+        writerThread.start();
+    }
+
+    /**
+     * 마지막으로 발급한 레코드 순번을 반환하는 메서드
+     *
+     * @return 레코드 순번
+     */
+    long getLastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * 스냅샷 저장을 기록 스레드에 요청하는 메서드
+     * 스냅샷에는 요청 시점까지의 변경 사항이 모두 반영되어 있어야 함
+     *
+     * @param snapshot 저장할 스냅샷
+     */
+    void requestSnapshot(WorkspaceSnapshot snapshot) {
+        recordsSinceSnapshot = 0;
+        queue.add(snapshot);
+    }
+
+    /**
+     * 마지막 스냅샷 이후 변경 사항이 있으면 스냅샷을 남기고,
+     * 큐에 남은 레코드를 모두 기록한 뒤 기록 스레드를 종료하는 메서드
+     *
+     * @throws InterruptedException 기다리는 중에 인터럽트된 경우
+     */
+    void close() throws InterruptedException {
+        if (recordsSinceSnapshot > 0) {
+            requestSnapshot(WorkspaceSnapshot.capture(lastSequence));
+        }
+        queue.add(STOP);
+        writerThread.join();
+    }
+
+    @Override
+    public void projectAdded(ProjectManager project) {
+        try {
+            DataOutput out = beginRecord(PROJECT_ADDED);
+            writeString(out, project.getName());
+            endRecord();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void projectRenamed(ProjectManager project, String oldName) {
+        try {
+            DataOutput out = beginRecord(PROJECT_RENAMED);
+            writeString(out, oldName);
+            writeString(out, project.getName());
+            endRecord();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void projectDeleted(ProjectManager project) {
+        try {
+            DataOutput out = beginRecord(PROJECT_DELETED);
+            writeString(out, project.getName());
+            endRecord();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void taskAdded(Task task) {
+        try {
+            DataOutput out = beginRecord(TASK_ADDED);
+            out.writeLong(task.getId());
+            writeString(out, task.getProjectName());
+            writeString(out, task.getName());
+            endRecord();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void taskRenamed(Task task, String oldName) {
+        try {
+            DataOutput out = beginRecord(TASK_RENAMED);
+            out.writeLong(task.getId());
+            writeString(out, task.getName());
+            endRecord();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void taskCompleted(Task task) {
+        try {
+            DataOutput out = beginRecord(TASK_COMPLETED_ON);
+            out.writeLong(task.getId());
+            LocalDate completedOn = task.getCompletedOn();
+            out.writeLong(completedOn != null ? completedOn.toEpochDay() : NO_COMPLETION_DAY);
+            endRecord();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void taskRestored(Task task) {
+        writeTaskRecord(TASK_RESTORED, task);
+    }
+
+    @Override
+    public void taskDeleted(Task task) {
+        writeTaskRecord(TASK_DELETED, task);
+    }
+
+    @Override
+    public void dueDateChanged(Task task, LocalDate dueDate) {
+        try {
+            DataOutput out = beginRecord(DUE_DATE_CHANGED);
+            out.writeLong(task.getId());
+            out.writeLong(dueDate != null ? dueDate.toEpochDay() : NO_DUE_DATE);
+            endRecord();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void memoChanged(Task task, String memo) {
+        try {
+            DataOutput out = beginRecord(MEMO_CHANGED);
+            out.writeLong(task.getId());
+            writeString(out, memo);
+            endRecord();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * 작업 고유 번호만 가지는 레코드를 기록하는 메서드
+     *
+     * @param type 레코드 종류
+     * @param task 작업
+     */
+    private void writeTaskRecord(byte type, Task task) {
+        try {
+            DataOutput out = beginRecord(type);
+            out.writeLong(task.getId());
+            endRecord();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * 새 레코드 본문을 시작하는 메서드
+     *
+     * @param type 레코드 종류
+     * @return 본문 필드를 쓸 출력 스트림
+     * @throws IOException 쓰기에 실패한 경우
+     */
+    private DataOutput beginRecord(byte type) throws IOException {
+        recordBuffer.reset();
+        recordOut.writeLong(++lastSequence);
+        recordOut.writeByte(type);
+        return recordOut;
+    }
+
+    /**
+     * 레코드 본문에 길이와 CRC를 붙여 기록 큐에 넣는 메서드
+     */
+    private void endRecord() {
+        byte[] body = recordBuffer.toByteArray();
+        crc.reset();
+        crc.update(body);
+        ByteBuffer frame = ByteBuffer.allocate(body.length + 8);
+        frame.putInt(body.length).put(body).putInt((int) crc.getValue());
+        queue.add(frame.array());
+        if (++recordsSinceSnapshot >= SNAPSHOT_INTERVAL) {
+            // 저널이 너무 길어지지 않도록 현재 상태를 스냅샷으로 압축
+            requestSnapshot(WorkspaceSnapshot.capture(lastSequence));
+        }
+    }
+
+    /**
+     * 기록 스레드의 본체
+     * 큐에서 레코드를 꺼낼 수 있을 만큼 모두 꺼내 한 번에 쓰고 fsync를 한 번 호출
+     */
+    private void runWriter() {
+        List<Object> batch = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(journalFile,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            channel.position(channel.size());
+            while (true) {
+                batch.add(queue.take());
+                queue.drainTo(batch);
+
+                List<ByteBuffer> pending = new ArrayList<>();
+                for (Object entry : batch) {
+                    if (entry instanceof byte[] frame) {
+                        pending.add(ByteBuffer.wrap(frame));
+                    } else if (entry instanceof WorkspaceSnapshot snapshot) {
+                        flush(channel, pending);
+                        try {
+                            snapshotWriter.write(snapshot);
+                            // 스냅샷에 반영된 레코드는 더 이상 필요 없으므로 저널을 비움
+                            channel.truncate(0);
+                            channel.force(true);
+                        } catch (IOException e) {
+                            e.printStackTrace(); // 스냅샷 저장에 실패해도 저널은 그대로 남아 있으므로 데이터는 유지됨
+                        }
+                    } else if (entry == STOP) {
+                        flush(channel, pending);
+                        return;
+                    }
+                }
+                flush(channel, pending);
+                batch.clear();
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 모아 둔 레코드를 파일에 쓰고 fsync를 한 번 호출하는 메서드
+     *
+     * @param channel 저널 파일 채널
+     * @param pending 기록할 레코드 목록, 기록 후 비워짐
+     * @throws IOException 쓰기에 실패한 경우
+     */
+    private static void flush(FileChannel channel, List<ByteBuffer> pending) throws IOException {
+        if (pending.isEmpty()) {
+            return;
+        }
+        ByteBuffer[] buffers = pending.toArray(new ByteBuffer[0]);
+        long remaining = 0;
+        for (ByteBuffer buffer : buffers) {
+            remaining += buffer.remaining();
+        }
+        while (remaining > 0) {
+            remaining -= channel.write(buffers);
+        }
+        channel.force(false);
+        pending.clear();
+    }
+
+    /**
+     * 저널 파일의 레코드를 차례로 읽어 작업 공간에 다시 적용하는 메서드
+     * 스냅샷에 이미 반영된 순번 이하의 레코드는 건너뛰고,
+     * 기록 도중 중단되어 길이나 CRC가 맞지 않는 꼬리 레코드를 만나면 그 앞까지만 적용한 뒤 파일을 잘라냄
+     *
+     * @param journalFile   저널 파일 경로
+     * @param afterSequence 스냅샷에 반영된 마지막 레코드 순번
+     * @return 마지막으로 적용한 레코드 순번
+     * @throws IOException 파일을 읽는 데 실패한 경우
+     */
+    static long replay(Path journalFile, long afterSequence) throws IOException {
+        long lastSequence = afterSequence;
+        if (!Files.exists(journalFile)) {
+            return lastSequence;
+        }
+        long validLength = 0;
+        CRC32 crc = new CRC32();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(journalFile), 1 << 16))) {
+            while (true) {
+                int length;
+                byte[] body;
+                try {
+                    length = in.readInt();
+                    if (length < 9) {
+                        break; // 잘못된 길이
+                    }
+                    body = in.readNBytes(length);
+                    if (body.length < length) {
+                        break; // 기록 도중 중단된 레코드
+                    }
+                    int checksum = in.readInt();
+                    crc.reset();
+                    crc.update(body);
+                    if ((int) crc.getValue() != checksum) {
+                        break; // 손상된 레코드
+                    }
+                } catch (EOFException e) {
+                    break;
+                }
+                validLength += length + 8;
+
+                DataInputStream record = new DataInputStream(new ByteArrayInputStream(body));
+                long sequence = record.readLong();
+                if (sequence > afterSequence) {
+                    apply(record.readByte(), record);
+                    lastSequence = sequence;
+                }
+            }
+        }
+        if (validLength < Files.size(journalFile)) {
+            try (FileChannel channel = FileChannel.open(journalFile, StandardOpenOption.WRITE)) {
+                channel.truncate(validLength);
+            }
+        }
+        return lastSequence;
+    }
+
+    /**
+     * 레코드 하나를 작업 공간에 적용하는 메서드
+     *
+     * @param type 레코드 종류
+     * @param in   레코드 필드를 읽을 입력 스트림
+     * @throws IOException 필드를 읽는 데 실패한 경우
+     */
+    private static void apply(byte type, DataInput in) throws IOException {
+        TaskRepository repository = TaskRepository.getInstance();
+        TaskMetadataStore metadataStore = TaskMetadataStore.getInstance();
+        switch (type) {
+            case PROJECT_ADDED -> repository.addProject(readString(in));
+            case PROJECT_RENAMED -> {
+                ProjectManager project = repository.getProject(readString(in));
+                String newName = readString(in);
+                if (project != null) {
+                    project.setName(newName);
+                }
+            }
+            case PROJECT_DELETED -> {
+                ProjectManager project = repository.getProject(readString(in));
+                if (project != null) {
+                    repository.deleteProject(project);
+                }
+            }
+            case TASK_ADDED -> {
+                long id = in.readLong();
+                ProjectManager project = repository.getProject(readString(in));
+                String name = readString(in);
+                if (project != null) {
+                    project.loadTask(id, name, false, null);
+                }
+            }
+            case TASK_RENAMED -> {
+                Task task = repository.getTask(in.readLong());
+                String name = readString(in);
+                if (task != null) {
+                    repository.getProjectOf(task).renameTask(task, name);
+                }
+            }
+            case TASK_COMPLETED -> {
+                // 완료한 날을 기록하기 전의 저널이므로 완료한 날은 알 수 없음
+                Task task = repository.getTask(in.readLong());
+                if (task != null) {
+                    repository.getProjectOf(task).completeTask(task, null);
+                }
+            }
+            case TASK_COMPLETED_ON -> {
+                Task task = repository.getTask(in.readLong());
+                long epochDay = in.readLong();
+                if (task != null) {
+                    repository.getProjectOf(task).completeTask(task, epochDay != NO_COMPLETION_DAY ? LocalDate.ofEpochDay(epochDay) : null);
+                }
+            }
+            case TASK_RESTORED -> {
+                Task task = repository.getTask(in.readLong());
+                if (task != null) {
+                    repository.getProjectOf(task).restoreTask(task);
+                }
+            }
+            case TASK_DELETED -> {
+                Task task = repository.getTask(in.readLong());
+                if (task != null) {
+                    repository.getProjectOf(task).deleteTask(task);
+                }
+            }
+            case DUE_DATE_CHANGED -> {
+                Task task = repository.getTask(in.readLong());
+                long epochDay = in.readLong();
+                if (task != null) {
+                    metadataStore.setDueDate(task, epochDay != NO_DUE_DATE ? LocalDate.ofEpochDay(epochDay) : null);
+                }
+            }
+            case MEMO_CHANGED -> {
+                Task task = repository.getTask(in.readLong());
+                String memo = readString(in);
+                if (task != null) {
+                    metadataStore.setMemo(task, memo);
+                }
+            }
+            default -> throw new IOException("알 수 없는 저널 레코드 종류: " + type);
+        }
+    }
+
+    /**
+     * 문자열을 UTF-8 바이트 길이와 함께 기록하는 메서드
+     * DataOutput.writeUTF와 달리 64KB보다 긴 메모도 기록할 수 있음
+     *
+     * @param out   출력 스트림
+     * @param value 기록할 문자열
+     * @throws IOException 쓰기에 실패한 경우
+     */
+    static void writeString(DataOutput out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * writeString으로 기록한 문자열을 읽는 메서드
+     *
+     * @param in 입력 스트림
+     * @return 읽은 문자열
+     * @throws IOException 읽기에 실패한 경우
+     */
+    static String readString(DataInput in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
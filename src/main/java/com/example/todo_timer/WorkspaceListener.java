@@ -0,0 +1,96 @@
+package com.example.todo_timer;
+
+import java.time.LocalDate;
+
+/**
+ * 프로젝트와 작업의 변경 사항을 전달받는 리스너 인터페이스
+ * 모든 메서드는 변경이 적용된 뒤에 변경을 일으킨 스레드(JavaFX 애플리케이션 스레드)에서 호출됨
+ * 필요한 이벤트만 골라서 구현할 수 있도록 기본 구현은 아무 일도 하지 않음
+ */
+public interface WorkspaceListener {
+
+    /**
+     * 프로젝트가 추가되었을 때 호출되는 메서드
+     *
+     * @param project 추가된 프로젝트
+     */
+    default void projectAdded(ProjectManager project) {
+    }
+
+    /**
+     * 프로젝트 이름이 변경되었을 때 호출되는 메서드
+     *
+     * @param project 이름이 변경된 프로젝트
+     * @param oldName 이전 프로젝트 이름
+     */
+    default void projectRenamed(ProjectManager project, String oldName) {
+    }
+
+    /**
+     * 프로젝트가 삭제되었을 때 호출되는 메서드
+     * 프로젝트에 속했던 작업에 대해서는 taskDeleted가 따로 호출되지 않음
+     *
+     * @param project 삭제된 프로젝트
+     */
+    default void projectDeleted(ProjectManager project) {
+    }
+
+    /**
+     * 작업이 추가되었을 때 호출되는 메서드
+     *
+     * @param task 추가된 작업
+     */
+    default void taskAdded(Task task) {
+    }
+
+    /**
+     * 작업 이름이 변경되었을 때 호출되는 메서드
+     *
+     * @param task    이름이 변경된 작업
+     * @param oldName 이전 작업 이름
+     */
+    default void taskRenamed(Task task, String oldName) {
+    }
+
+    /**
+     * 작업이 완료 목록으로 옮겨졌을 때 호출되는 메서드
+     *
+     * @param task 완료한 작업
+     */
+    default void taskCompleted(Task task) {
+    }
+
+    /**
+     * 완료한 작업이 다시 진행 중인 목록으로 옮겨졌을 때 호출되는 메서드
+     *
+     * @param task 복구한 작업
+     */
+    default void taskRestored(Task task) {
+    }
+
+    /**
+     * 작업이 삭제되었을 때 호출되는 메서드
+     *
+     * @param task 삭제된 작업
+     */
+    default void taskDeleted(Task task) {
+    }
+
+    /**
+     * 작업의 마감일이 변경되었을 때 호출되는 메서드
+     *
+     * @param task    작업
+     * @param dueDate 새로운 마감일, 마감일이 제거되었으면 null
+     */
+    default void dueDateChanged(Task task, LocalDate dueDate) {
+    }
+
+    /**
+     * 작업의 메모가 변경되었을 때 호출되는 메서드
+     *
+     * @param task 작업
+     * @param memo 새로운 메모, 메모가 제거되었으면 빈 문자열
+     */
+    default void memoChanged(Task task, String memo) {
+    }
+}
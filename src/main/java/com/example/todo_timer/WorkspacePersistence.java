@@ -0,0 +1,104 @@
+package com.example.todo_timer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * 작업 공간을 디스크에 저장하고 다시 불러오는 기능을 묶은 클래스
+ * 시작할 때 최신 스냅샷을 읽고 그 이후의 저널 꼬리만 다시 적용한 뒤,
+ * 이후의 모든 변경 사항은 WorkspaceJournal이 백그라운드에서 기록
+ */
+public final class WorkspacePersistence {
+    private static final String JOURNAL_FILE = "workspace.journal"; // 저널 파일 이름
+
+    private static WorkspaceJournal journal; // 현재 열려 있는 저널
+
+
+    /**
+     * WorkspacePersistence의 생성자
+     */
+    private WorkspacePersistence() {
+    }
+
+    /**
+     * 작업 공간을 저장할 기본 폴더를 반환하는 메서드
+     * todo.timer.home 시스템 속성이 있으면 그 경로를, 없으면 사용자 홈의 .todo-timer 폴더를 사용
+     *
+     * @return 작업 공간 폴더 경로
+     */
+    public static Path getDefaultDirectory() {
+        String home = System.getProperty("todo.timer.home");
+        return home != null ? Paths.get(home) : Paths.get(System.getProperty("user.home"), ".todo-timer");
+    }
+
+    /**
+     * 저장된 작업 공간을 불러오고 이후의 변경 사항을 기록하기 시작하는 메서드
+     * JavaFX 애플리케이션 스레드에서 화면을 띄우기 전에 호출
+     *
+     * @param directory 작업 공간 폴더 경로
+     * @throws IOException 저장된 파일을 읽는 데 실패한 경우
+     */
+    public static void open(Path directory) throws IOException {
+        if (journal != null) {
+            return;
+        }
+        Files.createDirectories(directory);
+        Path journalFile = directory.resolve(JOURNAL_FILE);
+
+        // 최신 스냅샷을 읽고, 스냅샷 이후에 기록된 저널 레코드만 적용
+        // 메모 파일은 스냅샷이 가리키는 세대를 먼저 열어 두어야 메모 참조를 연결할 수 있음
+        long snapshotSequence = 0;
+        MemoStore memoStore = TaskMetadataStore.getInstance().getMemoStore();
+        List<Path> snapshotFiles = WorkspaceSnapshotFile.findSnapshots(directory);
+        if (!snapshotFiles.isEmpty()) {
+            WorkspaceSnapshotFile snapshotFile = WorkspaceSnapshotFile.map(snapshotFiles.get(0));
+            memoStore.open(directory, snapshotFile.getMemoGeneration());
+            snapshotFile.load();
+            snapshotSequence = snapshotFile.getLastSequence();
+        } else {
+            memoStore.open(directory, 0);
+        }
+        long lastSequence = WorkspaceJournal.replay(journalFile, snapshotSequence);
+        boolean memosCompacted = memoStore.compactIfNeeded();
+
+        journal = new WorkspaceJournal(journalFile, lastSequence,
+                snapshot -> WorkspaceSnapshotFile.write(snapshot, directory));
+        journal.start();
+        if (lastSequence > snapshotSequence || memosCompacted) {
+            // 다시 적용한 저널 꼬리나 정리한 메모 참조를 스냅샷으로 저장해 다음 시작을 빠르게 함
+            journal.requestSnapshot(WorkspaceSnapshot.capture(lastSequence));
+        }
+        TaskRepository.getInstance().addWorkspaceListener(journal);
+
+        // 타이머가 실행된 구간을 작업별로 기록
+        SessionLedger.getInstance().open(directory);
+        StatisticsRollups.getInstance().open(directory);
+
+        // 다시 시작하기 전에 실행 중이던 타이머를 되돌림
+        TimerCheckpoint.getInstance().open(directory);
+    }
+
+    /**
+     * 남은 변경 사항을 모두 기록하고 저널을 닫는 메서드
+     * 애플리케이션이 종료될 때 호출
+     */
+    public static void close() {
+        if (journal == null) {
+            return;
+        }
+        TaskRepository.getInstance().removeWorkspaceListener(journal);
+        try {
+            journal.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        journal = null;
+        TaskMetadataStore.getInstance().getMemoStore().close();
+        TimerCheckpoint.getInstance().close();
+        StatisticsRollups.getInstance().close();
+        SessionLedger.getInstance().close();
+    }
+}
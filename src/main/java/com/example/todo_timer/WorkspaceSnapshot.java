@@ -0,0 +1,217 @@
+package com.example.todo_timer;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 작업 공간 전체를 한 시점 기준으로 복사해 둔 스냅샷 클래스
+ * JavaFX 애플리케이션 스레드에서는 값만 배열로 복사해 두고(capture),
+ * 파일 쓰기는 저널 기록 스레드에서 WorkspaceSnapshotFile로 처리하므로 화면이 멈추지 않음
+ * 메모는 본문 대신 메모 파일의 참조만 복사
+ */
+public class WorkspaceSnapshot {
+    private final long lastSequence; // 스냅샷에 반영된 마지막 저널 순번
+    private final long nextTaskId; // 다음에 발급할 작업 고유 번호
+    private final String[] projectNames; // 프로젝트 이름 (목록 순서)
+    private final int[] projectTaskCounts; // 프로젝트별 작업 수
+    private final long[] taskIds; // 작업 고유 번호 (프로젝트 순서, 진행 중인 작업 다음에 완료한 작업)
+    private final String[] taskNames; // 작업 이름
+    private final boolean[] taskCompleted; // 완료 여부
+    private final long[] taskCompletedDays; // 완료한 날 (epoch day), 없거나 알 수 없으면 NO_COMPLETION_DAY
+    private final long[] taskDueDays; // 마감일 (epoch day), 없으면 NO_DUE_DATE
+    private final long[] taskMemoRefs; // 메모 참조, 없으면 NO_MEMO
+    private final long memoGeneration; // 메모 참조가 가리키는 메모 파일 세대 번호
+
+
+    /**
+     * WorkspaceSnapshot의 생성자
+     */
+    private WorkspaceSnapshot(long lastSequence, long nextTaskId, int projectCount, int taskCount,
+                              long memoGeneration) {
+        this.lastSequence = lastSequence;
+        this.nextTaskId = nextTaskId;
+        this.projectNames = new String[projectCount];
+        this.projectTaskCounts = new int[projectCount];
+        this.taskIds = new long[taskCount];
+        this.taskNames = new String[taskCount];
+        this.taskCompleted = new boolean[taskCount];
+        this.taskCompletedDays = new long[taskCount];
+        this.taskDueDays = new long[taskCount];
+        this.taskMemoRefs = new long[taskCount];
+        this.memoGeneration = memoGeneration;
+    }
+
+    /**
+     * 현재 작업 공간의 값을 복사하여 스냅샷을 만드는 메서드
+     * 문자열은 불변 객체이므로 참조만 복사
+     *
+     * @param lastSequence 스냅샷에 반영된 마지막 저널 순번
+     * @return 작업 공간 스냅샷
+     */
+    static WorkspaceSnapshot capture(long lastSequence) {
+        TaskRepository repository = TaskRepository.getInstance();
+        TaskMetadataStore metadataStore = TaskMetadataStore.getInstance();
+        List<ProjectManager> projects = repository.getProjects();
+
+        WorkspaceSnapshot snapshot = new WorkspaceSnapshot(lastSequence, repository.getNextTaskId(),
+                projects.size(), repository.getTaskCount(), metadataStore.getMemoStore().getGeneration());
+        int taskIndex = 0;
+        for (int i = 0; i < projects.size(); i++) {
+            ProjectManager project = projects.get(i);
+            snapshot.projectNames[i] = project.getName();
+            snapshot.projectTaskCounts[i] = project.getTasks().size() + project.getCompletedTasks().size();
+            taskIndex = snapshot.captureTasks(project.getTasks(), taskIndex, metadataStore);
+            taskIndex = snapshot.captureTasks(project.getCompletedTasks(), taskIndex, metadataStore);
+        }
+        return snapshot;
+    }
+
+    /**
+     * 작업 목록의 값을 배열에 복사하는 메서드
+     *
+     * @param tasks         복사할 작업 목록
+     * @param taskIndex     배열에서 시작할 위치
+     * @param metadataStore 마감일과 메모를 읽을 저장소
+     * @return 다음 작업을 복사할 위치
+     */
+    private int captureTasks(Collection<Task> tasks, int taskIndex, TaskMetadataStore metadataStore) {
+        for (Task task : tasks) {
+            LocalDate dueDate = metadataStore.getDueDate(task);
+            LocalDate completedOn = task.getCompletedOn();
+            taskIds[taskIndex] = task.getId();
+            taskNames[taskIndex] = task.getName();
+            taskCompleted[taskIndex] = task.isCompleted();
+            taskCompletedDays[taskIndex] = completedOn != null ? completedOn.toEpochDay() : WorkspaceJournal.NO_COMPLETION_DAY;
+            taskDueDays[taskIndex] = dueDate != null ? dueDate.toEpochDay() : WorkspaceJournal.NO_DUE_DATE;
+            taskMemoRefs[taskIndex] = metadataStore.getMemoStore().getRef(task);
+            taskIndex++;
+        }
+        return taskIndex;
+    }
+
+    /**
+     * 스냅샷에 반영된 마지막 저널 순번을 반환하는 메서드
+     *
+     * @return 저널 순번
+     */
+    long getLastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * 다음에 발급할 작업 고유 번호를 반환하는 메서드
+     *
+     * @return 작업 고유 번호
+     */
+    long getNextTaskId() {
+        return nextTaskId;
+    }
+
+    /**
+     * 프로젝트 수를 반환하는 메서드
+     *
+     * @return 프로젝트 수
+     */
+    int getProjectCount() {
+        return projectNames.length;
+    }
+
+    /**
+     * 프로젝트 이름을 반환하는 메서드
+     *
+     * @param index 프로젝트 위치
+     * @return 프로젝트 이름
+     */
+    String getProjectName(int index) {
+        return projectNames[index];
+    }
+
+    /**
+     * 프로젝트의 작업 수를 반환하는 메서드
+     *
+     * @param index 프로젝트 위치
+     * @return 진행 중인 작업과 완료한 작업의 수
+     */
+    int getProjectTaskCount(int index) {
+        return projectTaskCounts[index];
+    }
+
+    /**
+     * 전체 작업 수를 반환하는 메서드
+     *
+     * @return 작업 수
+     */
+    int getTaskCount() {
+        return taskIds.length;
+    }
+
+    /**
+     * 작업 고유 번호를 반환하는 메서드
+     *
+     * @param index 작업 위치
+     * @return 작업 고유 번호
+     */
+    long getTaskId(int index) {
+        return taskIds[index];
+    }
+
+    /**
+     * 작업 이름을 반환하는 메서드
+     *
+     * @param index 작업 위치
+     * @return 작업 이름
+     */
+    String getTaskName(int index) {
+        return taskNames[index];
+    }
+
+    /**
+     * 작업 완료 여부를 반환하는 메서드
+     *
+     * @param index 작업 위치
+     * @return 완료했으면 true
+     */
+    boolean isTaskCompleted(int index) {
+        return taskCompleted[index];
+    }
+
+    /**
+     * 작업을 완료한 날을 반환하는 메서드
+     *
+     * @param index 작업 위치
+     * @return 완료한 날 (epoch day), 없거나 알 수 없으면 NO_COMPLETION_DAY
+     */
+    long getTaskCompletedDay(int index) {
+        return taskCompletedDays[index];
+    }
+
+    /**
+     * 작업 마감일을 반환하는 메서드
+     *
+     * @param index 작업 위치
+     * @return 마감일 (epoch day), 없으면 NO_DUE_DATE
+     */
+    long getTaskDueDay(int index) {
+        return taskDueDays[index];
+    }
+
+    /**
+     * 작업 메모 참조를 반환하는 메서드
+     *
+     * @param index 작업 위치
+     * @return 메모 참조, 없으면 NO_MEMO
+     */
+    long getTaskMemoRef(int index) {
+        return taskMemoRefs[index];
+    }
+
+    /**
+     * 메모 참조가 가리키는 메모 파일 세대 번호를 반환하는 메서드
+     *
+     * @return 세대 번호
+     */
+    long getMemoGeneration() {
+        return memoGeneration;
+    }
+}
@@ -0,0 +1,371 @@
+package com.example.todo_timer;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 작업 공간 스냅샷의 이진 파일 형식을 읽고 쓰는 클래스
+ * 파일은 MappedByteBuffer로 매핑해서 읽으므로 시작할 때 텍스트를 해석하거나 전체를 복사하지 않고,
+ * 고정 길이 레코드에서 필요한 값만 바로 꺼냄
+ * 같은 문자열은 문자열 테이블에 한 번만 저장되고 읽을 때도 같은 String 객체를 공유하며,
+ * 메모는 본문 대신 메모 파일(MemoStore)의 참조만 저장
+ *
+ * 파일 구성 (모든 오프셋은 파일 시작 기준)
+ *   헤더 (64바이트): MAGIC, VERSION, 마지막 저널 순번, 다음 작업 고유 번호,
+ *                   프로젝트 수, 작업 수, 문자열 수, 프로젝트 테이블/작업 테이블/문자열 오프셋 테이블/문자열 데이터 오프셋,
+ *                   메모 파일 세대 번호
+ *   프로젝트 테이블: 프로젝트마다 12바이트 [이름 문자열 번호][첫 작업 번호][작업 수]
+ *   작업 테이블: 작업마다 40바이트 [고유 번호(long)][마감일(long)][메모 참조(long)][이름 문자열 번호][플래그][완료한 날(long)]
+ *              버전 3 파일은 완료한 날이 없는 32바이트 레코드이며, 읽을 때 완료한 날을 알 수 없는 것으로 처리
+ *   문자열 오프셋 테이블: (문자열 수 + 1)개의 int, 문자열 데이터 안에서의 시작 위치
+ *   문자열 데이터: UTF-8 바이트를 이어 붙인 영역
+ */
+public class WorkspaceSnapshotFile {
+    private static final int MAGIC = 0x54445453; // "TDTS"
+    private static final int VERSION = 4;
+    private static final int VERSION_WITHOUT_COMPLETION_DAY = 3; // 완료한 날이 없는 이전 형식
+
+    private static final int HEADER_SIZE = 64;
+    private static final int PROJECT_RECORD_SIZE = 12;
+    private static final int TASK_RECORD_SIZE = 40;
+    private static final int TASK_RECORD_SIZE_WITHOUT_COMPLETION_DAY = 32;
+    private static final int FLAG_COMPLETED = 1;
+
+    private static final String FILE_PREFIX = "workspace-"; // 스냅샷 파일 이름 앞부분
+    private static final String FILE_SUFFIX = ".snapshot"; // 스냅샷 파일 이름 뒷부분
+
+    private final Path file; // 매핑한 파일 경로
+    private final MappedByteBuffer buffer; // 읽기 전용으로 매핑한 파일 내용
+    private final long lastSequence;
+    private final long nextTaskId;
+    private final int projectCount;
+    private final int taskCount;
+    private final int stringCount;
+    private final int projectTable;
+    private final int taskTable;
+    private final int stringOffsetTable;
+    private final int stringData;
+    private final long memoGeneration;
+    private final int taskRecordSize; // 파일 버전에 따른 작업 레코드 크기
+
+
+    /**
+     * WorkspaceSnapshotFile의 생성자
+     * 헤더를 읽고 각 영역이 파일 안에 들어 있는지 확인
+     *
+     * @param file   스냅샷 파일 경로
+     * @param buffer 매핑한 파일 내용
+     * @throws IOException 형식이 올바르지 않은 경우
+     */
+    private WorkspaceSnapshotFile(Path file, MappedByteBuffer buffer) throws IOException {
+        this.file = file;
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC
+                || (buffer.getInt(4) != VERSION && buffer.getInt(4) != VERSION_WITHOUT_COMPLETION_DAY)) {
+            throw new IOException("지원하지 않는 스냅샷 형식입니다: " + file);
+        }
+        taskRecordSize = buffer.getInt(4) == VERSION ? TASK_RECORD_SIZE : TASK_RECORD_SIZE_WITHOUT_COMPLETION_DAY;
+        lastSequence = buffer.getLong(8);
+        nextTaskId = buffer.getLong(16);
+        projectCount = buffer.getInt(24);
+        taskCount = buffer.getInt(28);
+        stringCount = buffer.getInt(32);
+        projectTable = buffer.getInt(36);
+        taskTable = buffer.getInt(40);
+        stringOffsetTable = buffer.getInt(44);
+        stringData = buffer.getInt(48);
+        memoGeneration = buffer.getLong(52);
+        if (stringData > buffer.capacity()
+                || stringData + (long) buffer.getInt(stringOffsetTable + 4 * stringCount) > buffer.capacity()) {
+            throw new IOException("스냅샷 파일이 손상되었습니다: " + file);
+        }
+    }
+
+    /**
+     * 폴더에서 가장 최근에 저장된 스냅샷 파일을 찾는 메서드
+     * 파일 이름에 저널 순번이 들어 있으므로 이름 순서가 저장 순서와 같음
+     *
+     * @param directory 작업 공간 폴더
+     * @return 스냅샷 파일 목록 (최신 순), 없으면 빈 목록
+     * @throws IOException 폴더를 읽는 데 실패한 경우
+     */
+    static List<Path> findSnapshots(Path directory) throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, FILE_PREFIX + "*" + FILE_SUFFIX)) {
+            for (Path path : stream) {
+                files.add(path);
+            }
+        }
+        files.sort((a, b) -> b.getFileName().toString().compareTo(a.getFileName().toString()));
+        return files;
+    }
+
+    /**
+     * 스냅샷 파일을 읽기 전용으로 매핑하는 메서드
+     *
+     * @param file 스냅샷 파일 경로
+     * @return 매핑한 스냅샷
+     * @throws IOException 파일을 읽는 데 실패했거나 형식이 올바르지 않은 경우
+     */
+    static WorkspaceSnapshotFile map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file)) {
+            // 매핑은 채널을 닫아도 유지되며, 버퍼가 더 이상 쓰이지 않을 때 해제됨
+            return new WorkspaceSnapshotFile(file, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * 스냅샷에 반영된 마지막 저널 순번을 반환하는 메서드
+     *
+     * @return 저널 순번
+     */
+    long getLastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * 스냅샷의 메모 참조가 가리키는 메모 파일 세대 번호를 반환하는 메서드
+     *
+     * @return 세대 번호
+     */
+    long getMemoGeneration() {
+        return memoGeneration;
+    }
+
+    /**
+     * 매핑한 파일 경로를 반환하는 메서드
+     *
+     * @return 스냅샷 파일 경로
+     */
+    Path getFile() {
+        return file;
+    }
+
+    /**
+     * 스냅샷의 프로젝트와 작업을 작업 공간에 넣는 메서드
+     * 이름은 문자열 번호별로 한 번만 디코딩해서 공유하고, 메모는 참조만 연결
+     */
+    void load() {
+        TaskRepository repository = TaskRepository.getInstance();
+        TaskMetadataStore metadataStore = TaskMetadataStore.getInstance();
+        MemoStore memoStore = metadataStore.getMemoStore();
+        String[] decoded = new String[stringCount]; // 이미 디코딩한 이름
+
+        for (int i = 0; i < projectCount; i++) {
+            int record = projectTable + i * PROJECT_RECORD_SIZE;
+            ProjectManager project = repository.addProject(readString(buffer.getInt(record), decoded));
+            int firstTask = buffer.getInt(record + 4);
+            int count = buffer.getInt(record + 8);
+            for (int j = firstTask; j < firstTask + count; j++) {
+                int taskRecord = taskTable + j * taskRecordSize;
+                long id = buffer.getLong(taskRecord);
+                long dueDay = buffer.getLong(taskRecord + 8);
+                long memoRef = buffer.getLong(taskRecord + 16);
+                String name = readString(buffer.getInt(taskRecord + 24), decoded);
+                boolean completed = (buffer.getInt(taskRecord + 28) & FLAG_COMPLETED) != 0;
+                long completedDay = taskRecordSize == TASK_RECORD_SIZE
+                        ? buffer.getLong(taskRecord + 32) : WorkspaceJournal.NO_COMPLETION_DAY;
+
+                Task task = project.loadTask(id, name, completed,
+                        completedDay != WorkspaceJournal.NO_COMPLETION_DAY ? LocalDate.ofEpochDay(completedDay) : null);
+                if (dueDay != WorkspaceJournal.NO_DUE_DATE) {
+                    metadataStore.loadDueDate(task, LocalDate.ofEpochDay(dueDay));
+                }
+                if (memoRef != MemoStore.NO_MEMO) {
+                    memoStore.setRef(task, memoRef);
+                }
+            }
+        }
+        repository.setNextTaskId(nextTaskId);
+    }
+
+    /**
+     * 문자열 테이블에서 문자열을 읽는 메서드
+     *
+     * @param index 문자열 번호
+     * @return 디코딩한 문자열
+     */
+    private String readString(int index) {
+        int start = buffer.getInt(stringOffsetTable + 4 * index);
+        int end = buffer.getInt(stringOffsetTable + 4 * (index + 1));
+        byte[] bytes = new byte[end - start];
+        buffer.get(stringData + start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 이미 디코딩한 문자열은 다시 디코딩하지 않고 재사용하는 메서드
+     *
+     * @param index   문자열 번호
+     * @param decoded 디코딩한 문자열 캐시
+     * @return 디코딩한 문자열
+     */
+    private String readString(int index, String[] decoded) {
+        String value = decoded[index];
+        if (value == null) {
+            value = readString(index);
+            decoded[index] = value;
+        }
+        return value;
+    }
+
+    /**
+     * 스냅샷을 새 파일로 저장하는 메서드
+     * 임시 파일에 쓰고 fsync한 뒤 원자적으로 이름을 바꾸므로 저장 도중 중단되어도 이전 스냅샷이 남음
+     * 스냅샷이 가리키는 메모를 먼저 디스크에 기록하고,
+     * 저장이 끝나면 이전 스냅샷 파일과 다른 세대의 메모 파일을 지우며, 지울 수 없는 파일은 다음 저장 때 다시 시도
+     *
+     * @param snapshot  저장할 스냅샷
+     * @param directory 작업 공간 폴더
+     * @return 저장한 파일 경로
+     * @throws IOException 저장에 실패한 경우
+     */
+    static Path write(WorkspaceSnapshot snapshot, Path directory) throws IOException {
+        int taskCount = snapshot.getTaskCount();
+        int projectCount = snapshot.getProjectCount();
+
+        // 문자열 테이블 구성 (같은 문자열은 한 번만 저장)
+        Map<String, Integer> stringIndex = new HashMap<>();
+        List<byte[]> strings = new ArrayList<>();
+        int[] projectNameIndex = new int[projectCount];
+        for (int i = 0; i < projectCount; i++) {
+            projectNameIndex[i] = intern(snapshot.getProjectName(i), stringIndex, strings);
+        }
+        int[] taskNameIndex = new int[taskCount];
+        for (int i = 0; i < taskCount; i++) {
+            taskNameIndex[i] = intern(snapshot.getTaskName(i), stringIndex, strings);
+        }
+
+        int projectTable = HEADER_SIZE;
+        int taskTable = projectTable + align(projectCount * PROJECT_RECORD_SIZE);
+        int stringOffsetTable = taskTable + taskCount * TASK_RECORD_SIZE;
+        int stringData = stringOffsetTable + align(4 * (strings.size() + 1));
+
+        // 같은 순번이라도 메모 파일 세대가 바뀌면 다른 파일에 쓰므로 매핑 중인 파일을 덮어쓰지 않음
+        String fileName = String.format("%s%016x-%08x%s", FILE_PREFIX, snapshot.getLastSequence(),
+                snapshot.getMemoGeneration(), FILE_SUFFIX);
+        Path file = directory.resolve(fileName);
+        Path tempFile = directory.resolve(fileName + ".tmp");
+        TaskMetadataStore.getInstance().getMemoStore().force();
+        try (FileOutputStream fileOut = new FileOutputStream(tempFile.toFile());
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOut, 1 << 16))) {
+            // 헤더
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(snapshot.getLastSequence());
+            out.writeLong(snapshot.getNextTaskId());
+            out.writeInt(projectCount);
+            out.writeInt(taskCount);
+            out.writeInt(strings.size());
+            out.writeInt(projectTable);
+            out.writeInt(taskTable);
+            out.writeInt(stringOffsetTable);
+            out.writeInt(stringData);
+            out.writeLong(snapshot.getMemoGeneration());
+            pad(out, HEADER_SIZE);
+
+            // 프로젝트 테이블
+            int firstTask = 0;
+            for (int i = 0; i < projectCount; i++) {
+                out.writeInt(projectNameIndex[i]);
+                out.writeInt(firstTask);
+                out.writeInt(snapshot.getProjectTaskCount(i));
+                firstTask += snapshot.getProjectTaskCount(i);
+            }
+            pad(out, taskTable);
+
+            // 작업 테이블
+            for (int i = 0; i < taskCount; i++) {
+                out.writeLong(snapshot.getTaskId(i));
+                out.writeLong(snapshot.getTaskDueDay(i));
+                out.writeLong(snapshot.getTaskMemoRef(i));
+                out.writeInt(taskNameIndex[i]);
+                out.writeInt(snapshot.isTaskCompleted(i) ? FLAG_COMPLETED : 0);
+                out.writeLong(snapshot.getTaskCompletedDay(i));
+            }
+
+            // 문자열 오프셋 테이블과 문자열 데이터
+            int offset = 0;
+            for (byte[] bytes : strings) {
+                out.writeInt(offset);
+                offset += bytes.length;
+            }
+            out.writeInt(offset);
+            pad(out, stringData);
+            for (byte[] bytes : strings) {
+                out.write(bytes);
+            }
+            out.flush();
+            fileOut.getChannel().force(true);
+        }
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        // 이전 스냅샷 정리
+        for (Path older : findSnapshots(directory)) {
+            if (!older.equals(file)) {
+                try {
+                    Files.deleteIfExists(older);
+                } catch (IOException e) {
+                    // 아직 매핑되어 있는 파일은 지울 수 없는 운영체제가 있으므로 다음에 다시 시도
+                }
+            }
+        }
+        MemoStore.deleteOtherGenerations(directory, snapshot.getMemoGeneration());
+        return file;
+    }
+
+    /**
+     * 문자열을 문자열 테이블에 넣고 번호를 반환하는 메서드
+     *
+     * @param value       문자열
+     * @param stringIndex 문자열 → 번호
+     * @param strings     번호 순서대로 저장할 UTF-8 바이트
+     * @return 문자열 번호
+     */
+    private static int intern(String value, Map<String, Integer> stringIndex, List<byte[]> strings) {
+        Integer index = stringIndex.get(value);
+        if (index == null) {
+            index = strings.size();
+            stringIndex.put(value, index);
+            strings.add(value.getBytes(StandardCharsets.UTF_8));
+        }
+        return index;
+    }
+
+    /**
+     * 크기를 8바이트 단위로 올림하는 메서드
+     *
+     * @param size 크기
+     * @return 8의 배수로 올림한 크기
+     */
+    private static int align(int size) {
+        return (size + 7) & ~7;
+    }
+
+    /**
+     * 지정된 위치까지 0으로 채우는 메서드
+     *
+     * @param out      출력 스트림
+     * @param position 채울 위치
+     * @throws IOException 쓰기에 실패한 경우
+     */
+    private static void pad(DataOutputStream out, int position) throws IOException {
+        while (out.size() < position) {
+            out.writeByte(0);
+        }
+    }
+}
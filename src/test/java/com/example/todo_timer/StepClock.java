@@ -0,0 +1,35 @@
+package com.example.todo_timer;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 테스트에서 직접 앞으로 돌리는 단조 시계
+ * 실제로 기다리지 않고 TimerCore와 TimerService의 시간 흐름을 확인하는 데 사용
+ */
+class StepClock implements LongSupplier {
+    private long nanos; // 현재 시각 (나노초)
+
+
+    /**
+     * StepClock의 생성자
+     *
+     * @param startNanos 처음 시각 (나노초)
+     */
+    StepClock(long startNanos) {
+        this.nanos = startNanos;
+    }
+
+    @Override
+    public long getAsLong() {
+        return nanos;
+    }
+
+    /**
+     * 시계를 앞으로 돌리는 메서드
+     *
+     * @param deltaNanos 돌릴 시간 (나노초)
+     */
+    void advance(long deltaNanos) {
+        nanos += deltaNanos;
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.todo_timer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * TimerCore의 마감 시각 계산을 시계를 직접 돌려 확인하는 테스트
+ */
+class TimerCoreTest {
+    private static final long SESSION = TimeUnit.MINUTES.toNanos(25); // 집중 구간
+    private static final long BREAK = TimeUnit.MINUTES.toNanos(5); // 휴식 구간
+
+    private StepClock clock;
+    private TimerCore core;
+
+
+    @BeforeEach
+    void setUp() {
+        clock = new StepClock(TimeUnit.HOURS.toNanos(3)); // 0이 아닌 시각에서 시작해도 맞는지 확인
+        core = new TimerCore(clock);
+        core.reset(SESSION);
+    }
+
+    /**
+     * 25분 구간이 정확히 25분 뒤에 끝나는지 확인하는 테스트
+     */
+    @Test
+    void twentyFiveMinuteSessionFinishesAtDeadline() {
+        core.start();
+        assertEquals(1500, core.getRemainingSeconds());
+
+        clock.advance(TimeUnit.MINUTES.toNanos(10));
+        assertEquals(TimeUnit.MINUTES.toNanos(15), core.getRemainingNanos());
+
+        clock.advance(TimeUnit.MINUTES.toNanos(15) - 1);
+        assertFalse(core.isFinished());
+        assertEquals(1, core.getRemainingSeconds()); // 마지막 1초 동안은 1초로 표시
+
+        clock.advance(1);
+        assertTrue(core.isFinished());
+        assertEquals(0, core.getRemainingSeconds());
+
+        clock.advance(TimeUnit.MINUTES.toNanos(1));
+        assertEquals(0, core.getRemainingNanos()); // 마감 시각이 지나도 음수가 되지 않음
+    }
+
+    /**
+     * 일시정지한 동안에는 시간이 줄지 않고, 이어서 실행하면 남은 시간부터 다시 줄어드는지 확인하는 테스트
+     */
+    @Test
+    void pauseKeepsRemainingTimeUntilResumed() {
+        core.start();
+        clock.advance(TimeUnit.MINUTES.toNanos(10));
+        core.pause();
+        assertFalse(core.isRunning());
+
+        clock.advance(TimeUnit.HOURS.toNanos(1));
+        assertEquals(TimeUnit.MINUTES.toNanos(15), core.getRemainingNanos());
+
+        core.start();
+        assertEquals(clock.getAsLong() + TimeUnit.MINUTES.toNanos(15), core.getDeadlineNanos());
+        clock.advance(TimeUnit.MINUTES.toNanos(15));
+        assertTrue(core.isFinished());
+    }
+
+    /**
+     * 다음 구간이 현재 시각이 아니라 이전 구간의 마감 시각부터 이어지는지 확인하는 테스트
+     */
+    @Test
+    void startNextChainsFromPreviousDeadline() {
+        core.start();
+        long sessionDeadline = core.getDeadlineNanos();
+        long lateCheck = TimeUnit.MILLISECONDS.toNanos(300); // 만료를 300ms 늦게 확인한 경우
+        clock.advance(SESSION + lateCheck);
+
+        core.startNext(BREAK);
+        assertEquals(sessionDeadline + BREAK, core.getDeadlineNanos());
+        assertEquals(BREAK - lateCheck, core.getRemainingNanos());
+        assertEquals(BREAK, core.getDurationNanos());
+
+        clock.advance(BREAK - lateCheck);
+        assertTrue(core.isFinished());
+    }
+
+    /**
+     * 잠자기 모드 등으로 이어서 계산한 마감 시각도 이미 지났으면 현재 시각부터 다음 구간을 시작하는지 확인하는 테스트
+     */
+    @Test
+    void startNextRestartsFromNowWhenChainedDeadlineIsStale() {
+        core.start();
+        clock.advance(TimeUnit.HOURS.toNanos(2)); // 구간이 끝난 뒤 한참 동안 잠들어 있었음
+
+        core.startNext(BREAK);
+        assertEquals(clock.getAsLong() + BREAK, core.getDeadlineNanos());
+        assertEquals(BREAK, core.getRemainingNanos());
+        assertFalse(core.isFinished());
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.todo_timer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * TimerService의 타이밍 휠이 타이머를 정확한 틱에 만료시키는지 시계를 직접 돌려 확인하는 테스트
+ * 스케줄러 스레드 없이 틱마다 advance를 직접 호출
+ */
+class TimerServiceTest {
+    private static final long TICK = TimeUnit.MILLISECONDS.toNanos(100); // TimerService의 휠 한 칸의 시간
+    private static final long ORIGIN = TimeUnit.HOURS.toNanos(5); // 서비스를 만든 시각
+
+    private StepClock clock;
+    private TimerService service;
+    private Map<TimerService.Countdown, Long> firedAt; // 만료된 타이머 → 만료를 알린 틱
+
+
+    @BeforeEach
+    void setUp() {
+        clock = new StepClock(ORIGIN);
+        service = new TimerService(clock);
+        firedAt = new HashMap<>();
+    }
+
+    /**
+     * 칸 경계와 단계 경계(64, 4096, 262144틱)에 걸친 타이머가 마감 틱에 정확히 만료되는지 확인하는 테스트
+     * 상위 단계에서 내려오는 틱과 만료 틱이 같은 타이머도 한 틱 늦지 않아야 함
+     */
+    @Test
+    void firesExactlyOnSlotAndLevelBoundaries() {
+        long[] durations = {1, 2, 63, 64, 65, 127, 128, 4095, 4096, 4097, 262143, 262144, 262145};
+        long[] startTicks = {0, 1, 37, 63};
+        for (long startTick : startTicks) {
+            for (long duration : durations) {
+                setUp();
+                stepTo(startTick);
+                TimerService.Countdown countdown = startTimer(duration * TICK);
+                long expected = startTick + duration;
+
+                stepTo(expected - 1);
+                assertFalse(firedAt.containsKey(countdown), "시작 " + startTick + "틱, " + duration + "틱 타이머가 일찍 만료됨");
+                stepTo(expected);
+                assertEquals(Long.valueOf(expected), firedAt.get(countdown), "시작 " + startTick + "틱, " + duration + "틱 타이머");
+                assertEquals(0, service.getScheduledCount());
+            }
+        }
+    }
+
+    /**
+     * 마감 시각이 틱 사이에 있으면 그 뒤의 첫 틱에 만료되는지 확인하는 테스트
+     */
+    @Test
+    void unalignedDeadlineFiresOnNextTick() {
+        clock.advance(TimeUnit.MILLISECONDS.toNanos(30)); // 0틱과 1틱 사이에서 시작
+        TimerService.Countdown countdown = startTimer(64 * TICK); // 마감 시각은 6.43초
+        stepTo(64);
+        assertFalse(firedAt.containsKey(countdown));
+        stepTo(65);
+        assertEquals(Long.valueOf(65), firedAt.get(countdown));
+    }
+
+    /**
+     * 일시정지한 타이머는 만료되지 않고, 이어서 실행하면 남은 시간만큼 뒤에 만료되는지 확인하는 테스트
+     */
+    @Test
+    void pausedTimerDoesNotFireUntilResumed() {
+        TimerService.Countdown countdown = startTimer(100 * TICK);
+        stepTo(40);
+        service.pause(countdown);
+        stepTo(500);
+        assertFalse(firedAt.containsKey(countdown));
+        assertEquals(0, service.getScheduledCount());
+
+        service.start(countdown);
+        stepTo(559);
+        assertFalse(firedAt.containsKey(countdown));
+        stepTo(560);
+        assertEquals(Long.valueOf(560), firedAt.get(countdown));
+    }
+
+    /**
+     * 실행 중인 작업 타이머의 작업을 삭제하면 실행한 구간이 기록되고 타이머가 멈추는지 확인하는 테스트
+     */
+    @Test
+    void deletingTaskEndsRunningTimer() {
+        List<long[]> runs = new ArrayList<>();
+        service.setRunListener((task, rest, startMillis, endMillis) -> runs.add(new long[]{startMillis, endMillis}));
+        Task task = new Task(1, "작업", new ProjectManager("프로젝트"));
+        TimerService.Countdown countdown = service.getTimer(task);
+        service.reset(countdown, 100 * TICK);
+        service.start(countdown);
+        stepTo(30);
+
+        service.taskDeleted(task);
+
+        assertFalse(countdown.isRunning());
+        assertEquals(0, service.getScheduledCount());
+        assertEquals(1, runs.size());
+        assertEquals(TimeUnit.NANOSECONDS.toMillis(30 * TICK), runs.get(0)[1] - runs.get(0)[0]);
+        stepTo(200);
+        assertFalse(firedAt.containsKey(countdown));
+    }
+
+    /**
+     * 타이머 1만 개를 여러 틱에 걸쳐 시작하고 그중 일부를 바로 취소했을 때, 남은 타이머가 모두 각자의 마감 틱에 한 번씩 만료되는지 확인하는 테스트
+     */
+    @Test
+    void tenThousandTimersFireOnTheirDeadlineTicks() {
+        Random random = new Random(42);
+        int timerCount = 10_000;
+        long maxDuration = TimeUnit.HOURS.toNanos(2);
+        List<TimerService.Countdown> timers = new ArrayList<>();
+        List<Long> expectedTicks = new ArrayList<>();
+        List<TimerService.Countdown> cancelled = new ArrayList<>();
+
+        // 처음 100틱 동안 틱마다 100개씩, 틱 사이의 임의 시각에 시작
+        // 시계는 앞으로만 가야 하므로 틱 안의 시작 시각을 정렬해 두고 차례로 돌림
+        for (int tick = 0; tick < 100; tick++) {
+            stepTo(tick);
+            long[] offsets = new long[timerCount / 100];
+            for (int i = 0; i < offsets.length; i++) {
+                offsets[i] = (long) (random.nextDouble() * TICK);
+            }
+            Arrays.sort(offsets);
+            long tickStart = clock.getAsLong();
+            for (long offset : offsets) {
+                clock.advance(tickStart + offset - clock.getAsLong());
+                long duration = 1 + (long) (random.nextDouble() * maxDuration);
+                long startNanos = clock.getAsLong();
+                TimerService.Countdown countdown = startTimer(duration);
+                long deadlineTick = -Math.floorDiv(-(startNanos + duration - ORIGIN), TICK); // 올림
+                expectedTicks.add(Math.max(deadlineTick, tick + 1));
+                if (timers.size() % 10 == 0) {
+                    service.cancel(countdown); // 열 개 중 하나는 시작하자마자 취소
+                    cancelled.add(countdown);
+                }
+                timers.add(countdown);
+            }
+        }
+        assertEquals(timerCount - cancelled.size(), service.getScheduledCount() + firedAt.size());
+
+        stepTo(100 + maxDuration / TICK + 1);
+
+        assertEquals(0, service.getScheduledCount());
+        assertEquals(timerCount - cancelled.size(), firedAt.size());
+        for (int i = 0; i < timers.size(); i++) {
+            if (i % 10 == 0) {
+                assertFalse(firedAt.containsKey(timers.get(i)), i + "번째 타이머는 취소됨");
+            } else {
+                assertEquals(expectedTicks.get(i), firedAt.get(timers.get(i)), i + "번째 타이머");
+            }
+        }
+    }
+
+    /**
+     * 타이머를 만들어 시작하고 만료되면 그 틱을 기록하도록 하는 메서드
+     *
+     * @param durationNanos 타이머 시간 (나노초)
+     * @return 시작한 타이머
+     */
+    private TimerService.Countdown startTimer(long durationNanos) {
+        TimerService.Countdown countdown = service.createTimer();
+        countdown.setListener(expired -> {
+            Long previous = firedAt.put(expired, (clock.getAsLong() - ORIGIN) / TICK);
+            assertTrue(previous == null, "타이머가 두 번 만료됨");
+        });
+        service.reset(countdown, durationNanos);
+        service.start(countdown);
+        return countdown;
+    }
+
+    /**
+     * 한 틱씩 시계를 돌리며 지정한 틱까지 처리하는 메서드
+     *
+     * @param tick 처리할 마지막 틱
+     */
+    private void stepTo(long tick) {
+        long target = ORIGIN + tick * TICK;
+        while (clock.getAsLong() < target) {
+            clock.advance(Math.min(TICK, target - clock.getAsLong()));
+            service.advance();
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.example.todo_timer;
+
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.ButtonType;
+import javafx.scene.control.DialogPane;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.StackPane;
+import javafx.stage.Window;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 벤치마크 스레드에서 JavaFX 화면을 조작하고 상호작용마다 지연 시간과 할당량을 재는 클래스
+ * 지연 시간은 이벤트 처리 시간과 그 뒤 첫 펄스에서 주 장면의 CSS와 레이아웃을 처리한 시간의 합이며,
+ * 다음 펄스를 기다리는 유휴 시간과 렌더 스레드의 그리기 시간은 포함하지 않음
+ * 할당량은 이벤트 처리를 시작한 때부터 그 펄스의 레이아웃이 끝날 때까지 JavaFX 애플리케이션 스레드에서 할당한 바이트 수
+ */
+final class FxDriver {
+    private static final long TIMEOUT_SECONDS = 10; // 화면이 응답하기를 기다리는 최대 시간
+    private static final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final Scene scene; // 조작할 주 장면
+    private final StackPane root; // 화면을 올려 두는 루트 StackPane
+    private final LatencyRecorder recorder; // 측정값을 모을 대상
+
+    // 측정 상태 (JavaFX 애플리케이션 스레드 전용)
+    private Measurement pending; // 다음 펄스가 끝나기를 기다리는 측정
+    private long pulseStart; // 현재 펄스의 레이아웃 시작 시각
+
+
+    /**
+     * FxDriver의 생성자
+     * JavaFX 애플리케이션 스레드에서 호출
+     *
+     * @param scene    조작할 주 장면
+     * @param root     화면을 올려 두는 루트 StackPane
+     * @param recorder 측정값을 모을 대상
+     */
+    FxDriver(Scene scene, StackPane root, LatencyRecorder recorder) {
+        this.scene = scene;
+        this.root = root;
+        this.recorder = recorder;
+        // 펄스 리스너 목록을 도는 중에는 뺄 수 없으므로 한 번 등록해 두고 기다리는 측정이 있을 때만 처리
+        scene.addPreLayoutPulseListener(() -> pulseStart = System.nanoTime());
+        scene.addPostLayoutPulseListener(this::pulseFinished);
+    }
+
+    /**
+     * JavaFX 플랫폼을 시작하는 메서드
+     * 창이 모두 닫혀도 종료되지 않도록 설정
+     *
+     * @throws InterruptedException 기다리는 중에 스레드가 중단된 경우
+     */
+    static void startPlatform() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        Platform.startup(started::countDown);
+        await(started);
+        Platform.setImplicitExit(false);
+    }
+
+    /**
+     * JavaFX 애플리케이션 스레드에서 작업을 실행하고 결과를 기다리는 메서드
+     *
+     * @param task 실행할 작업
+     * @param <T>  결과 타입
+     * @return 작업 결과
+     * @throws InterruptedException 기다리는 중에 스레드가 중단된 경우
+     */
+    static <T> T call(Callable<T> task) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicReference<T> result = new AtomicReference<>();
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        Platform.runLater(() -> {
+            try {
+                result.set(task.call());
+            } catch (Exception e) {
+                failure.set(e);
+            } finally {
+                done.countDown();
+            }
+        });
+        await(done);
+        if (failure.get() != null) {
+            throw new RuntimeException(failure.get());
+        }
+        return result.get();
+    }
+
+    /**
+     * JavaFX 애플리케이션 스레드에서 작업을 실행하고 끝날 때까지 기다리는 메서드
+     *
+     * @param task 실행할 작업
+     * @throws InterruptedException 기다리는 중에 스레드가 중단된 경우
+     */
+    static void run(Runnable task) throws InterruptedException {
+        call(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * 상호작용 하나를 실행하고 그 뒤 첫 펄스의 레이아웃이 끝날 때까지 기다리며 측정하는 메서드
+     *
+     * @param interaction 상호작용 이름
+     * @param action      JavaFX 애플리케이션 스레드에서 실행할 상호작용
+     * @throws InterruptedException 기다리는 중에 스레드가 중단된 경우
+     */
+    void measure(String interaction, Runnable action) throws InterruptedException {
+        Measurement measurement = new Measurement(interaction);
+        Platform.runLater(() -> {
+            measurement.startBytes = threads.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            action.run();
+            measurement.handlerNanos = System.nanoTime() - start;
+            pending = measurement;
+            Platform.requestNextPulse();
+        });
+        await(measurement.done);
+    }
+
+    /**
+     * 펄스의 레이아웃이 끝나면 기다리던 측정을 마치는 메서드
+     */
+    private void pulseFinished() {
+        Measurement measurement = pending;
+        if (measurement == null) {
+            return;
+        }
+        pending = null;
+        long layoutNanos = System.nanoTime() - pulseStart;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - measurement.startBytes;
+        recorder.record(measurement.interaction, measurement.handlerNanos + layoutNanos, allocated);
+        measurement.done.countDown();
+    }
+
+    /**
+     * 조건이 참이 될 때까지 기다리는 메서드
+     * 조건은 JavaFX 애플리케이션 스레드에서 확인
+     *
+     * @param condition 기다릴 조건
+     * @throws InterruptedException 기다리는 중에 스레드가 중단된 경우
+     */
+    static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (!call(condition::getAsBoolean)) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("화면이 " + TIMEOUT_SECONDS + "초 안에 응답하지 않았습니다.");
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    /**
+     * 화면 전환 애니메이션이 끝나 루트에 화면이 하나만 남을 때까지 기다리는 메서드
+     *
+     * @throws InterruptedException 기다리는 중에 스레드가 중단된 경우
+     */
+    void awaitSettled() throws InterruptedException {
+        waitUntil(() -> root.getChildren().size() == 1);
+    }
+
+    /**
+     * 다이얼로그가 뜰 때까지 기다렸다가 그 패널을 반환하는 메서드
+     *
+     * @return 떠 있는 다이얼로그의 패널
+     * @throws InterruptedException 기다리는 중에 스레드가 중단된 경우
+     */
+    static DialogPane awaitDialog() throws InterruptedException {
+        waitUntil(() -> findDialog() != null);
+        return call(FxDriver::findDialog);
+    }
+
+    /**
+     * 떠 있는 다이얼로그가 모두 닫힐 때까지 기다리는 메서드
+     *
+     * @throws InterruptedException 기다리는 중에 스레드가 중단된 경우
+     */
+    static void awaitNoDialog() throws InterruptedException {
+        waitUntil(() -> findDialog() == null);
+    }
+
+    /**
+     * 떠 있는 다이얼로그의 패널을 찾는 메서드
+     * JavaFX 애플리케이션 스레드에서 호출
+     *
+     * @return 다이얼로그 패널, 없으면 null
+     */
+    private static DialogPane findDialog() {
+        for (Window window : Window.getWindows()) {
+            if (window.isShowing() && window.getScene() != null && window.getScene().getRoot() instanceof DialogPane) {
+                return (DialogPane) window.getScene().getRoot();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 주 장면에서 선택자에 맞는 노드를 찾는 메서드
+     *
+     * @param selector CSS 선택자 (예: "#back_btn")
+     * @param <T>      노드 타입
+     * @return 찾은 노드
+     * @throws InterruptedException 기다리는 중에 스레드가 중단된 경우
+     */
+    @SuppressWarnings("unchecked")
+    <T extends Node> T lookup(String selector) throws InterruptedException {
+        Node node = call(() -> scene.lookup(selector));
+        if (node == null) {
+            throw new IllegalStateException("화면에서 " + selector + "를 찾을 수 없습니다.");
+        }
+        return (T) node;
+    }
+
+    /**
+     * 노드를 마우스로 클릭한 것처럼 클릭 이벤트를 보내는 메서드
+     * 화면의 버튼 중 일부는 onAction이 아니라 클릭 이벤트에 반응하므로 fire 대신 사용
+     * JavaFX 애플리케이션 스레드에서 호출
+     *
+     * @param node 클릭할 노드
+     */
+    static void click(Node node) {
+        node.fireEvent(new MouseEvent(MouseEvent.MOUSE_CLICKED, 0, 0, 0, 0, MouseButton.PRIMARY, 1,
+                false, false, false, false, true, false, false, true, false, true, null));
+    }
+
+    /**
+     * 다이얼로그에서 이름이 같은 버튼을 누르는 메서드
+     * JavaFX 애플리케이션 스레드에서 호출
+     *
+     * @param dialog 다이얼로그 패널
+     * @param text   버튼 이름
+     */
+    static void pressDialogButton(DialogPane dialog, String text) {
+        for (ButtonType type : dialog.getButtonTypes()) {
+            if (type.getText().equals(text)) {
+                ((Button) dialog.lookupButton(type)).fire();
+                return;
+            }
+        }
+        throw new IllegalStateException("다이얼로그에 " + text + " 버튼이 없습니다.");
+    }
+
+    /**
+     * 래치가 풀릴 때까지 기다리는 메서드
+     *
+     * @param latch 기다릴 래치
+     * @throws InterruptedException 기다리는 중에 스레드가 중단된 경우
+     */
+    private static void await(CountDownLatch latch) throws InterruptedException {
+        if (!latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("화면이 " + TIMEOUT_SECONDS + "초 안에 응답하지 않았습니다.");
+        }
+    }
+
+    /**
+     * 진행 중인 측정 하나를 나타내는 클래스
+     */
+    private static final class Measurement {
+        private final String interaction; // 상호작용 이름
+        private final CountDownLatch done = new CountDownLatch(1); // 측정이 끝나면 풀리는 래치
+        private long startBytes; // 시작할 때까지 할당한 바이트 수
+        private long handlerNanos; // 이벤트 처리 시간
+
+
+        /**
+         * Measurement의 생성자
+         *
+         * @param interaction 상호작용 이름
+         */
+        private Measurement(String interaction) {
+            this.interaction = interaction;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.todo_timer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 상호작용별 지연 시간과 할당량을 모아 백분위수로 정리하는 클래스
+ * 상호작용마다 처음 측정한 값은 화면을 처음 불러오는 비용이 섞이므로 "이름.cold"로 따로 모으고,
+ * 나머지 값은 측정 중일 때만 모음
+ */
+final class LatencyRecorder {
+    private final Map<String, List<long[]>> samples = new LinkedHashMap<>(); // 상호작용 이름 → {지연 시간(ns), 할당량(byte)} 목록
+    private volatile boolean measuring; // 측정 중인지 여부, 예열 중에는 false (벤치마크 스레드에서 바꾸고 JavaFX 스레드에서 읽음)
+
+
+    /**
+     * 예열을 끝내고 측정을 시작하거나, 측정을 멈추는 메서드
+     *
+     * @param measuring 측정 여부
+     */
+    void setMeasuring(boolean measuring) {
+        this.measuring = measuring;
+    }
+
+    /**
+     * 상호작용 한 번의 측정값을 기록하는 메서드
+     *
+     * @param interaction    상호작용 이름
+     * @param latencyNanos   지연 시간 (나노초)
+     * @param allocatedBytes JavaFX 애플리케이션 스레드에서 할당한 바이트 수
+     */
+    synchronized void record(String interaction, long latencyNanos, long allocatedBytes) {
+        String coldName = interaction + ".cold";
+        if (!samples.containsKey(coldName)) {
+            samples.put(coldName, new ArrayList<>());
+            samples.get(coldName).add(new long[]{latencyNanos, allocatedBytes});
+            return;
+        }
+        if (measuring) {
+            samples.computeIfAbsent(interaction, name -> new ArrayList<>()).add(new long[]{latencyNanos, allocatedBytes});
+        }
+    }
+
+    /**
+     * 상호작용별 결과를 표로 출력하고 JSON 파일로 저장하는 메서드
+     *
+     * @param output JSON 파일 경로
+     * @throws IOException 파일을 쓰는 데 실패한 경우
+     */
+    synchronized void report(Path output) throws IOException {
+        System.out.printf("%-32s %7s %9s %9s %9s %9s %12s%n",
+                "interaction", "samples", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)", "alloc(KB)");
+        StringBuilder json = new StringBuilder("[\n");
+        for (Map.Entry<String, List<long[]>> entry : samples.entrySet()) {
+            List<long[]> values = entry.getValue();
+            long[] latencies = new long[values.size()];
+            long allocated = 0;
+            for (int i = 0; i < values.size(); i++) {
+                latencies[i] = values.get(i)[0];
+                allocated += values.get(i)[1];
+            }
+            Arrays.sort(latencies);
+            long meanAllocated = allocated / values.size();
+
+            System.out.printf(Locale.ROOT, "%-32s %7d %9.3f %9.3f %9.3f %9.3f %12.1f%n",
+                    entry.getKey(), latencies.length, millis(percentile(latencies, 50)), millis(percentile(latencies, 90)),
+                    millis(percentile(latencies, 99)), millis(latencies[latencies.length - 1]), meanAllocated / 1024.0);
+
+            if (json.length() > 2) {
+                json.append(",\n");
+            }
+            json.append(String.format(Locale.ROOT,
+                    "  {\"interaction\": \"%s\", \"samples\": %d, \"p50Millis\": %.3f, \"p90Millis\": %.3f, "
+                            + "\"p99Millis\": %.3f, \"maxMillis\": %.3f, \"meanAllocatedBytes\": %d}",
+                    entry.getKey(), latencies.length, millis(percentile(latencies, 50)), millis(percentile(latencies, 90)),
+                    millis(percentile(latencies, 99)), millis(latencies[latencies.length - 1]), meanAllocated));
+        }
+        json.append("\n]\n");
+
+        Path parent = output.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.writeString(output, json, StandardCharsets.UTF_8);
+        System.out.println("결과 저장: " + output.toAbsolutePath());
+    }
+
+    /**
+     * 정렬된 값에서 백분위수를 구하는 메서드 (nearest-rank)
+     *
+     * @param sorted  정렬된 값
+     * @param percent 백분위 (0~100)
+     * @return 백분위수
+     */
+    private static long percentile(long[] sorted, int percent) {
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    /**
+     * 나노초를 밀리초로 바꾸는 메서드
+     *
+     * @param nanos 나노초
+     * @return 밀리초
+     */
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+}
@@ -0,0 +1,214 @@
+package com.example.todo_timer;
+
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.ButtonType;
+import javafx.scene.control.DialogPane;
+import javafx.scene.control.ListView;
+import javafx.scene.control.TextField;
+import javafx.scene.layout.StackPane;
+import javafx.stage.Stage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 실제 화면을 헤드리스 Monocle 플랫폼에서 띄워 사용자 흐름을 재현하고 상호작용별 지연 시간과 할당량을 재는 벤치마크
+ * 빈 임시 작업 공간에 작업이 TASK_COUNT개인 프로젝트를 만든 뒤 다음 흐름을 반복
+ * - 프로젝트 열기/닫기: 메인 화면에서 프로젝트를 골라 작업 목록 화면으로 갔다가 돌아옴
+ * - 작업 완료/복구: 작업 목록 화면에서 작업을 모두 완료했다가 모두 복구
+ * - 프로젝트 이름 변경: 프로젝트 관리 다이얼로그, 이름 입력 다이얼로그, 이름 적용
+ * - 타이머 들어가기/나오기: 메인 화면과 타이머 화면 사이를 오감
+ * 결과는 표로 출력하고 todo.timer.uiBenchmark.output 시스템 속성의 경로(기본값 ui-latency.json)에 JSON으로 저장
+ */
+public class UiLatencyBenchmark {
+    private static final int TASK_COUNT = 1000; // 프로젝트의 작업 수
+    private static final int WARMUP_ROUNDS = 10; // 측정하지 않고 반복할 횟수
+    private static final int MEASURED_ROUNDS = 50; // 측정할 반복 횟수
+    private static final String PROJECT_NAME = "bench"; // 벤치마크 프로젝트 이름
+
+    private final FxDriver driver; // 화면을 조작할 드라이버
+    private final ProjectManager project; // 벤치마크 프로젝트
+    private int renameCount; // 프로젝트 이름을 바꾼 횟수
+
+
+    /**
+     * UiLatencyBenchmark의 생성자
+     *
+     * @param driver  화면을 조작할 드라이버
+     * @param project 벤치마크 프로젝트
+     */
+    private UiLatencyBenchmark(FxDriver driver, ProjectManager project) {
+        this.driver = driver;
+        this.project = project;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path directory = Files.createTempDirectory("todo-timer-ui");
+        Path output = Paths.get(System.getProperty("todo.timer.uiBenchmark.output", "ui-latency.json"));
+        LatencyRecorder recorder = new LatencyRecorder();
+
+        FxDriver.startPlatform();
+        UiLatencyBenchmark benchmark = FxDriver.call(() -> {
+            // 애플리케이션과 같은 방식으로 작업 공간을 열고 루트 StackPane에 메인 화면을 올림
+            WorkspacePersistence.open(directory);
+            ProjectManager project = TaskRepository.getInstance().addProject(PROJECT_NAME);
+            for (int i = 0; i < TASK_COUNT; i++) {
+                project.addTask("task-" + i);
+            }
+
+            StackPane root = new StackPane();
+            ViewRouter router = ViewRouter.getInstance();
+            router.attach(root);
+            router.show("TodoMain.fxml", ViewRouter.TransitionType.NONE);
+            Stage stage = new Stage();
+            stage.setScene(new Scene(root));
+            stage.show();
+            NotificationCenter.getInstance().attach(stage);
+            return new UiLatencyBenchmark(new FxDriver(stage.getScene(), root, recorder), project);
+        });
+
+        try {
+            for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+                recorder.setMeasuring(round >= WARMUP_ROUNDS);
+                benchmark.openAndCloseProject();
+                benchmark.renameProject();
+                benchmark.enterAndLeaveTimer();
+            }
+            // 작업 완료/복구는 한 번에 TASK_COUNT번씩 반복하므로 한 바퀴를 예열로 사용
+            recorder.setMeasuring(false);
+            benchmark.completeAndRestoreTasks();
+            recorder.setMeasuring(true);
+            benchmark.completeAndRestoreTasks();
+            recorder.report(output);
+        } finally {
+            FxDriver.run(WorkspacePersistence::close);
+            Platform.exit();
+            deleteDirectory(directory);
+        }
+    }
+
+    /**
+     * 메인 화면에서 프로젝트를 골라 작업 목록 화면을 열고 다시 메인 화면으로 돌아오는 메서드
+     *
+     * @throws InterruptedException 기다리는 중에 스레드가 중단된 경우
+     */
+    private void openAndCloseProject() throws InterruptedException {
+        openProject();
+        Node backButton = driver.lookup("#back_btn");
+        driver.measure("close-project", () -> FxDriver.click(backButton));
+        driver.awaitSettled();
+    }
+
+    /**
+     * 메인 화면에서 프로젝트를 골라 작업 목록 화면을 여는 메서드
+     *
+     * @throws InterruptedException 기다리는 중에 스레드가 중단된 경우
+     */
+    private void openProject() throws InterruptedException {
+        selectProject();
+        Node taskButton = driver.lookup("#manageTask_btn");
+        driver.measure("open-project", () -> FxDriver.click(taskButton));
+        driver.awaitSettled();
+    }
+
+    /**
+     * 작업 목록 화면에서 맨 위의 작업을 차례로 모두 완료한 뒤, 완료한 작업을 차례로 모두 복구하는 메서드
+     *
+     * @throws InterruptedException 기다리는 중에 스레드가 중단된 경우
+     */
+    private void completeAndRestoreTasks() throws InterruptedException {
+        openProject();
+        ListView<Task> taskList = driver.lookup("#taskListView");
+        ListView<Task> completedList = driver.lookup("#completedTaskListView");
+        Button completeButton = driver.lookup("#complete_btn");
+        Button restoreButton = driver.lookup("#restore_btn");
+
+        for (int i = 0; i < TASK_COUNT; i++) {
+            driver.measure("complete-task", () -> {
+                taskList.getSelectionModel().select(0);
+                completeButton.fire();
+            });
+        }
+        for (int i = 0; i < TASK_COUNT; i++) {
+            driver.measure("restore-task", () -> {
+                completedList.getSelectionModel().select(0);
+                restoreButton.fire();
+            });
+        }
+
+        Node backButton = driver.lookup("#back_btn");
+        FxDriver.run(() -> FxDriver.click(backButton));
+        driver.awaitSettled();
+    }
+
+    /**
+     * 메인 화면의 프로젝트 관리 다이얼로그에서 프로젝트 이름을 바꾸는 메서드
+     * 관리 다이얼로그 열기, 이름 입력 다이얼로그 열기, 이름 적용을 각각 측정
+     *
+     * @throws InterruptedException 기다리는 중에 스레드가 중단된 경우
+     */
+    private void renameProject() throws InterruptedException {
+        selectProject();
+        Button manageButton = driver.lookup("#manageProject_btn");
+        driver.measure("rename-project.open-options", manageButton::fire);
+        DialogPane options = FxDriver.awaitDialog();
+
+        driver.measure("rename-project.open-input", () -> FxDriver.pressDialogButton(options, "수정"));
+        DialogPane input = FxDriver.awaitDialog();
+
+        String newName = PROJECT_NAME + "-" + (++renameCount % 2);
+        driver.measure("rename-project.apply", () -> {
+            ((TextField) input.lookup(".text-field")).setText(newName);
+            ((Button) input.lookupButton(ButtonType.OK)).fire();
+        });
+        FxDriver.awaitNoDialog();
+    }
+
+    /**
+     * 메인 화면에서 타이머 화면으로 갔다가 다시 메인 화면으로 돌아오는 메서드
+     *
+     * @throws InterruptedException 기다리는 중에 스레드가 중단된 경우
+     */
+    private void enterAndLeaveTimer() throws InterruptedException {
+        Node timerButton = driver.lookup("#tm_btn");
+        driver.measure("enter-timer", () -> FxDriver.click(timerButton));
+        driver.awaitSettled();
+
+        Node mainButton = driver.lookup("#main_btn");
+        driver.measure("leave-timer", () -> FxDriver.click(mainButton));
+        driver.awaitSettled();
+    }
+
+    /**
+     * 메인 화면의 프로젝트 목록에서 벤치마크 프로젝트를 선택하는 메서드
+     *
+     * @throws InterruptedException 기다리는 중에 스레드가 중단된 경우
+     */
+    private void selectProject() throws InterruptedException {
+        ListView<ProjectManager> projectList = driver.lookup("#projectListView");
+        FxDriver.run(() -> projectList.getSelectionModel().select(project));
+    }
+
+    /**
+     * 임시 작업 공간 폴더를 삭제하는 메서드
+     *
+     * @param directory 삭제할 폴더
+     * @throws IOException 삭제하는 데 실패한 경우
+     */
+    private static void deleteDirectory(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            List<Path> files = paths.sorted(Comparator.reverseOrder()).toList();
+            for (Path path : files) {
+                Files.delete(path);
+            }
+        }
+    }
+}